@@ -0,0 +1,98 @@
+// 플랫폼 스레드(기본) / 가상 스레드(virtual 프로필) 처리량·p99 비교용 k6 시나리오.
+//
+//   ./gradlew bootRun --args='--spring.profiles.active=local'
+//   k6 run -e MODE=platform loadtest/auth-load.js
+//
+//   ./gradlew bootRun -Pjava21 --args='--spring.profiles.active=local,virtual'
+//   k6 run -e MODE=virtual loadtest/auth-load.js
+//
+// 결과는 loadtest/result-<MODE>.json 으로 남는다. 같은 DB/같은 풀 크기로 두 번 돌려 비교한다.
+// 동시에 http://localhost:8081/actuator/prometheus 의 hikaricp_connections_pending,
+// auth_filter_lookup_seconds 를 함께 본다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const USERS = Number(__ENV.USERS || 50);
+const VUS = Number(__ENV.VUS || 400);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        // 대부분의 요청은 JWT 필터 + JDBC 조회만 타는 인증된 조회다.
+        me: {
+            executor: 'constant-vus',
+            exec: 'me',
+            vus: VUS,
+            duration: DURATION,
+        },
+        // bcrypt 가 포함된 로그인은 적은 비율로 섞는다.
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: Number(__ENV.LOGIN_RATE || 20),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_failed{scenario:me}': ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function email(i) {
+    return `load-${i}@studywithme.com`;
+}
+
+function doLogin(i) {
+    const res = http.post(
+        `${BASE_URL}/auth/login`,
+        JSON.stringify({ email: email(i), password: 'password123' }),
+        JSON_HEADERS,
+    );
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.status === 200 ? res.json('data.accessToken') : null;
+}
+
+export function setup() {
+    const tokens = [];
+    for (let i = 0; i < USERS; i++) {
+        // 이미 있으면 409 가 나므로 결과는 무시한다.
+        http.post(
+            `${BASE_URL}/auth/signup`,
+            JSON.stringify({ email: email(i), password: 'password123', name: `load${i}` }),
+            JSON_HEADERS,
+        );
+        tokens.push(doLogin(i));
+    }
+    return { tokens };
+}
+
+export function me(data) {
+    const token = data.tokens[(__VU + __ITER) % data.tokens.length];
+    const res = http.get(`${BASE_URL}/members/me`, { headers: { Authorization: `Bearer ${token}` } });
+    check(res, { 'me 200': (r) => r.status === 200 });
+}
+
+export function login() {
+    doLogin(Math.floor(Math.random() * USERS));
+}
+
+export function handleSummary(data) {
+    return {
+        [`loadtest/result-${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: summaryLine(data),
+    };
+}
+
+function summaryLine(data) {
+    const duration = data.metrics.http_req_duration.values;
+    return `[${MODE}] rps=${data.metrics.http_reqs.values.rate.toFixed(1)}`
+        + ` p50=${duration['p(50)'].toFixed(1)}ms p99=${duration['p(99)'].toFixed(1)}ms`
+        + ` failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+}
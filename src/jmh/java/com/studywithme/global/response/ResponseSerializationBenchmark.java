@@ -0,0 +1,69 @@
+package com.studywithme.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.studywithme.global.exception.ErrorCode;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 크리덴셜 스터핑 중의 401 응답과 일반 성공 응답 봉투의 직렬화 비용을 비교한다.
+// jacksonError 는 기존 RestAuthenticationEntryPoint 경로, templateError 는 ErrorResponseWriter 경로다.
+// jacksonSuccess 는 record 빈 직렬화, streamingSuccess 는 ApiResponseJsonSerializer 를 등록한 ObjectMapper 다.
+// ./gradlew jmh -PjmhIncludes=ResponseSerializationBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper streamingMapper;
+    private ErrorResponseWriter errorResponseWriter;
+    private String traceId;
+    private ApiResponse<List<SummaryRow>> successResponse;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        streamingMapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(
+                (Class<ApiResponse<?>>) (Class<?>) ApiResponse.class, new ApiResponseJsonSerializer()));
+        errorResponseWriter = new ErrorResponseWriter(objectMapper);
+        traceId = UUID.randomUUID().toString().replace("-", "");
+        successResponse = ApiResponse.success(
+                List.of(new SummaryRow(1L, "알고리즘 스터디", 4), new SummaryRow(2L, "영어 회화", 6)),
+                traceId
+        );
+    }
+
+    @Benchmark
+    public byte[] jacksonError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ErrorResponse.of(ErrorCode.AUTH_UNAUTHORIZED, traceId, null));
+    }
+
+    @Benchmark
+    public byte[] templateError() {
+        return errorResponseWriter.toBytes(ErrorCode.AUTH_UNAUTHORIZED, traceId);
+    }
+
+    @Benchmark
+    public byte[] jacksonSuccess() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(successResponse);
+    }
+
+    @Benchmark
+    public byte[] streamingSuccess() throws JsonProcessingException {
+        return streamingMapper.writeValueAsBytes(successResponse);
+    }
+
+    public record SummaryRow(Long id, String title, int capacity) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.studywithme.global.security.jwt;
+
+import com.studywithme.member.domain.MemberRole;
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.member.service.MemberStatusCache;
+import com.studywithme.member.service.MemberStatusCacheProperties;
+import com.studywithme.support.Stubs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// 인증 필터 전체 경로(해시 -> 블랙리스트 -> JWT 검증 -> 회원 상태)를 DB 없이 측정한다.
+// ./gradlew jmh -PjmhIncludes=JwtAuthenticationFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"false", "true"})
+    private boolean verifiedTokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret("benchmark-secret-32bytes-length!!");
+        jwtProperties.setAccessTtlMinutes(15);
+        jwtProperties.setRefreshTtlDays(7);
+        JwtTokenProvider provider = new JwtTokenProvider(jwtProperties);
+        authorization = "Bearer " + provider.issueTokens(12345L, MemberRole.PARTICIPANT).accessToken();
+
+        MemberRepository memberRepository = Stubs.of(MemberRepository.class, Map.of(
+                "findStatusById", args -> Optional.of(MemberStatus.ACTIVE)
+        ));
+        AccessTokenBlacklistRepository blacklistRepository = Stubs.of(AccessTokenBlacklistRepository.class, Map.of(
+                "existsByTokenHashAndExpiresAtAfter", args -> false,
+                "findByExpiresAtAfter", args -> List.of(),
+                "findActiveCreatedSince", args -> List.of()
+        ));
+
+        TokenBlacklistProperties blacklistProperties = new TokenBlacklistProperties();
+        blacklistProperties.setStaleAfterMs(Long.MAX_VALUE);
+        AccessTokenBlacklistCache blacklistCache =
+                new AccessTokenBlacklistCache(blacklistRepository, blacklistProperties, meterRegistry);
+        blacklistCache.sync();
+
+        VerifiedTokenCacheProperties verifiedProperties = new VerifiedTokenCacheProperties();
+        verifiedProperties.setEnabled(verifiedTokenCache);
+
+        filter = new JwtAuthenticationFilter(
+                new VerifiedAccessTokenCache(provider, verifiedProperties, meterRegistry),
+                new MemberStatusCache(memberRepository, new MemberStatusCacheProperties(), meterRegistry),
+                blacklistCache,
+                meterRegistry
+        );
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        return doFilter();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object authenticateContended() throws Exception {
+        return doFilter();
+    }
+
+    private Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/members/me");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication.getPrincipal();
+    }
+}
@@ -0,0 +1,63 @@
+package com.studywithme.global.security.jwt;
+
+import com.studywithme.member.domain.MemberRole;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-32bytes-length!!");
+        properties.setAccessTtlMinutes(15);
+        properties.setRefreshTtlDays(7);
+        provider = new JwtTokenProvider(properties);
+
+        TokenPair pair = provider.issueTokens(12345L, MemberRole.PARTICIPANT);
+        accessToken = pair.accessToken();
+        refreshToken = pair.refreshToken();
+    }
+
+    @Benchmark
+    public TokenPair issueTokens() {
+        return provider.issueTokens(12345L, MemberRole.PARTICIPANT);
+    }
+
+    @Benchmark
+    public MemberPrincipal parseAccessToken() {
+        return provider.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Long parseRefreshToken() {
+        return provider.parseRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public TokenPair issueTokensContended() {
+        return provider.issueTokens(12345L, MemberRole.PARTICIPANT);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public MemberPrincipal parseAccessTokenContended() {
+        return provider.parseAccessToken(accessToken);
+    }
+}
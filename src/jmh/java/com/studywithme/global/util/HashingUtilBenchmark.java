@@ -0,0 +1,61 @@
+package com.studywithme.global.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// ./gradlew jmh -PjmhIncludes=HashingUtilBenchmark
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashingUtilBenchmark {
+
+    private String token;
+    private byte[] tokenBytes;
+    private ByteBuffer tokenBuffer;
+
+    @Setup
+    public void setUp() {
+        // access token 과 비슷한 길이의 ASCII 문자열
+        token = "eyJhbGciOiJIUzI1NiJ9."
+                + "eyJzdWIiOiIxMjM0NSIsInJvbGUiOiJQQVJUSUNJUEFOVCIsInR5cGUiOiJhY2Nlc3MiLCJpYXQiOjE3MDAwMDAwMDAsImV4cCI6MTcwMDAwMDkwMH0."
+                + "dGhpcy1pcy1ub3QtYS1yZWFsLXNpZ25hdHVyZS1idXQtaXQtaGFzLXRoZS1yaWdodC1sZW5ndGg";
+        tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+        tokenBuffer = ByteBuffer.allocateDirect(tokenBytes.length).put(tokenBytes).flip();
+    }
+
+    @Benchmark
+    public String legacySha256() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder();
+        for (byte b : hashed) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    @Benchmark
+    public String sha256Hex() {
+        return HashingUtil.sha256(token);
+    }
+
+    @Benchmark
+    public byte[] sha256Bytes() {
+        return HashingUtil.sha256(tokenBytes);
+    }
+
+    @Benchmark
+    public byte[] sha256ByteBuffer() {
+        return HashingUtil.sha256(tokenBuffer.duplicate());
+    }
+}
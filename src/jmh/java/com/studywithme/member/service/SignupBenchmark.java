@@ -0,0 +1,176 @@
+package com.studywithme.member.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 마케팅 이벤트로 가입이 몰리는 순간을 재현한다. signups 건이 동시에 들어오고 그중 duplicateRatio 만큼은
+// 이미 가입된 이메일(재전송, 중복 클릭)이다. DB 왕복은 roundTripMicros, bcrypt 는 hashMicros 동안 잡아 둔다.
+// checkThenInsert 는 기존 방식(existsByEmail + INSERT), insertOnce 는 EmailExistenceFilter + INSERT 한 번이다.
+// 한 번의 실행이 스파이크 전체를 처리하는 시간이므로 가입 처리량은 signups / 평균 시간이다.
+// ./gradlew jmh -PjmhIncludes=SignupBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SignupBenchmark {
+
+    @Param({"checkThenInsert", "insertOnce"})
+    private String strategy;
+
+    @Param({"5000"})
+    private int signups;
+
+    @Param({"0.2"})
+    private double duplicateRatio;
+
+    @Param({"100000"})
+    private int existingMembers;
+
+    @Param({"500"})
+    private long roundTripMicros;
+
+    @Param({"2000"})
+    private long hashMicros;
+
+    private ExecutorService requestPool;
+    private FakeMemberTable table;
+    private EmailExistenceFilter filter;
+    private List<String> emails;
+
+    @Setup(Level.Trial)
+    public void setUpPool() {
+        requestPool = Executors.newFixedThreadPool(200);
+    }
+
+    @Setup(Level.Invocation)
+    public void openSignup() {
+        table = new FakeMemberTable(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        List<String> existing = new ArrayList<>(existingMembers);
+        for (int i = 0; i < existingMembers; i++) {
+            existing.add("member" + i + "@studywithme.com");
+        }
+        table.seed(existing);
+        filter = new EmailExistenceFilter(new JdbcTemplate(), new EmailExistenceFilterProperties(), new SimpleMeterRegistry());
+        filter.loadFrom(existing);
+
+        emails = new ArrayList<>(signups);
+        int duplicates = (int) (signups * duplicateRatio);
+        for (int i = 0; i < signups; i++) {
+            emails.add(i < duplicates
+                    ? "member" + (i % Math.max(1, duplicates / 4)) + "@studywithme.com"
+                    : "new" + i + "@studywithme.com");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestPool.shutdownNow();
+    }
+
+    @Benchmark
+    public int spike() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>(signups);
+        for (String email : emails) {
+            results.add(requestPool.submit(() -> {
+                start.await();
+                return signup(email);
+            }));
+        }
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                created++;
+            }
+        }
+        int expected = signups - (int) (signups * duplicateRatio);
+        if (created != expected) {
+            throw new IllegalStateException("created=" + created + ", expected=" + expected);
+        }
+        return table.roundTrips();
+    }
+
+    private boolean signup(String email) {
+        if ("checkThenInsert".equals(strategy)) {
+            if (table.exists(email)) {
+                return false;
+            }
+            hash();
+            return table.insert(email);
+        }
+        EmailExistenceFilter.Result result = filter.check(email);
+        if (result == EmailExistenceFilter.Result.EXISTS) {
+            return false;
+        }
+        if (result == EmailExistenceFilter.Result.MAYBE && table.exists(email)) {
+            filter.confirmExists(email);
+            return false;
+        }
+        hash();
+        if (!table.insert(email)) {
+            filter.confirmExists(email);
+            return false;
+        }
+        filter.add(email);
+        return true;
+    }
+
+    private void hash() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(hashMicros));
+    }
+
+    // uk_member_email 이 걸린 member 테이블 흉내. 호출마다 한 번의 DB 왕복을 기다린다.
+    private static final class FakeMemberTable {
+        private final Set<String> emails = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger roundTrips = new AtomicInteger();
+        private final long roundTripNanos;
+
+        private FakeMemberTable(long roundTripNanos) {
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        private void seed(List<String> existing) {
+            emails.addAll(existing);
+        }
+
+        private boolean exists(String email) {
+            roundTrip();
+            return emails.contains(email);
+        }
+
+        private boolean insert(String email) {
+            roundTrip();
+            return emails.add(email);
+        }
+
+        private void roundTrip() {
+            roundTrips.incrementAndGet();
+            LockSupport.parkNanos(roundTripNanos);
+        }
+
+        private int roundTrips() {
+            return roundTrips.get();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.studywithme.study.search;
+
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.search.StudyTextIndex.StudySearchFilter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 역색인 질의와 LIKE '%term%' 전체 스캔을 같은 합성 데이터로 비교한다.
+// likeScan 은 DB I/O 없이 메모리의 행을 훑는 비용만 재므로 실제 LIKE 보다 유리한 하한이다.
+// ./gradlew jmh -PjmhIncludes=StudyTextIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudyTextIndexBenchmark {
+    private static final String[] WORDS = {
+            "자바", "스프링", "알고리즘", "코딩테스트", "백엔드", "프론트엔드", "리액트", "데이터베이스", "네트워크",
+            "운영체제", "영어", "회화", "토익", "자격증", "정보처리기사", "면접", "포트폴리오", "클라우드", "쿠버네티스",
+            "java", "spring", "kotlin", "react", "mysql", "docker", "aws", "jpa", "typescript", "python"
+    };
+    private static final String[] CATEGORIES = {"backend", "frontend", "algorithm", "language", "certificate"};
+
+    @Param({"10000", "100000"})
+    private int studies;
+
+    @Param({"스프링 백엔드", "쿠버"})
+    private String query;
+
+    private StudyTextIndex index;
+    private List<StudyDocument> rows;
+    private StudySearchFilter filter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new StudyTextIndex();
+        rows = new ArrayList<>(studies);
+        for (long id = 1; id <= studies; id++) {
+            StudyDocument document = new StudyDocument(
+                    id,
+                    sentence(random, 4),
+                    sentence(random, 60),
+                    id % 3 == 0 ? StudyStatus.COMPLETED : StudyStatus.RECRUITING,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    null
+            );
+            index.upsert(document);
+            rows.add(document);
+        }
+        filter = new StudySearchFilter(StudyStatus.RECRUITING, "backend", null);
+    }
+
+    @Benchmark
+    public List<StudySearchHit> invertedIndex() {
+        return index.search(query, filter, 20);
+    }
+
+    @Benchmark
+    public List<Long> likeScan() {
+        String[] terms = query.toLowerCase().split(" ");
+        List<Long> matches = new ArrayList<>();
+        for (StudyDocument row : rows) {
+            if (row.status() != filter.status() || !filter.category().equals(row.category())) {
+                continue;
+            }
+            String title = row.title().toLowerCase();
+            String description = row.description().toLowerCase();
+            boolean all = true;
+            for (String term : terms) {
+                if (!title.contains(term) && !description.contains(term)) {
+                    all = false;
+                    break;
+                }
+            }
+            if (all) {
+                matches.add(row.id());
+                if (matches.size() == 20) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public List<StudySearchHit> invertedIndexContended() {
+        return index.search(query, filter, 20);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
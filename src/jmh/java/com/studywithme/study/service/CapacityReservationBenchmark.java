@@ -0,0 +1,155 @@
+package com.studywithme.study.service;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.study.repository.CapacityRepository;
+import com.studywithme.support.Stubs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+// 인기 스터디 하나가 열리는 순간을 재현한다. applicants 명이 동시에 seats 개의 좌석을 노린다.
+// capacity 행은 잠금 + rowLockMicros 동안의 보유(커밋까지의 지연)로 흉내 낸다.
+// 한 번의 실행이 매진까지의 시간이므로, 확정 좌석 처리량은 seats / 평균 시간이다.
+// ./gradlew jmh -PjmhIncludes=CapacityReservationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CapacityReservationBenchmark {
+    private static final long STUDY_ID = 1L;
+
+    @Param({"conditionalUpdate", "gatedEngine"})
+    private String strategy;
+
+    @Param({"100"})
+    private int seats;
+
+    @Param({"2000"})
+    private int applicants;
+
+    @Param({"200"})
+    private long rowLockMicros;
+
+    private ExecutorService applicantPool;
+    private HotRow row;
+    private CapacityRepository capacityRepository;
+    private CapacityReservationEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUpPool() {
+        applicantPool = Executors.newFixedThreadPool(200);
+    }
+
+    @Setup(Level.Invocation)
+    public void openStudy() {
+        row = new HotRow(seats, TimeUnit.MICROSECONDS.toNanos(rowLockMicros));
+        capacityRepository = Stubs.of(CapacityRepository.class, Map.of(
+                "findRemainByStudyId", args -> Optional.of(row.remain()),
+                "decrementRemain", args -> row.decrement()
+        ));
+        engine = new CapacityReservationEngine(
+                capacityRepository,
+                new CapacityReservationProperties(),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicantPool.shutdownNow();
+    }
+
+    @Benchmark
+    public int sellOut() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>(applicants);
+        for (int i = 0; i < applicants; i++) {
+            results.add(applicantPool.submit(() -> {
+                start.await();
+                return apply();
+            }));
+        }
+        start.countDown();
+        int confirmed = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                confirmed++;
+            }
+        }
+        if (confirmed != seats || row.remain() != 0) {
+            throw new IllegalStateException("overbooked: confirmed=" + confirmed + ", remain=" + row.remain());
+        }
+        return row.rowHits();
+    }
+
+    private boolean apply() {
+        if ("conditionalUpdate".equals(strategy)) {
+            return capacityRepository.decrementRemain(STUDY_ID) == 1;
+        }
+        try {
+            engine.reserve(STUDY_ID);
+            return true;
+        } catch (ApiException ex) {
+            return false;
+        }
+    }
+
+    private static final class HotRow {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicInteger rowHits = new AtomicInteger();
+        private final long holdNanos;
+        private int remain;
+
+        private HotRow(int remain, long holdNanos) {
+            this.remain = remain;
+            this.holdNanos = holdNanos;
+        }
+
+        private int decrement() {
+            rowHits.incrementAndGet();
+            lock.lock();
+            try {
+                LockSupport.parkNanos(holdNanos);
+                if (remain <= 0) {
+                    return 0;
+                }
+                remain--;
+                return 1;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int remain() {
+            lock.lock();
+            try {
+                return remain;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int rowHits() {
+            return rowHits.get();
+        }
+    }
+}
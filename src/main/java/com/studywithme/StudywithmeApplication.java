@@ -2,12 +2,17 @@ package com.studywithme;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class StudywithmeApplication {
+    // 기동 단계 기록 상한. 넘치면 이후 단계는 버린다. actuator startup 엔드포인트와 기동 리포트가 읽는다.
+    private static final int STARTUP_STEP_CAPACITY = 4096;
 
     public static void main(String[] args) {
-        SpringApplication.run(StudywithmeApplication.class, args);
+        SpringApplication application = new SpringApplication(StudywithmeApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
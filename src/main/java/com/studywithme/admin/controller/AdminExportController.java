@@ -0,0 +1,80 @@
+package com.studywithme.admin.controller;
+
+import com.studywithme.admin.service.AdminExportService;
+import com.studywithme.global.export.ExportFormat;
+import com.studywithme.member.domain.MemberStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Admin")
+@RestController
+@RequestMapping("/admin/exports")
+public class AdminExportController {
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final AdminExportService adminExportService;
+
+    public AdminExportController(AdminExportService adminExportService) {
+        this.adminExportService = adminExportService;
+    }
+
+    @Operation(summary = "회원 목록 내보내기 (NDJSON/CSV)")
+    @GetMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) MemberStatus status,
+            NativeWebRequest webRequest
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        String statusName = status == null ? null : status.name();
+        return attachment("members", exportFormat, adminExportService.exportMembers(exportFormat, statusName, webRequest));
+    }
+
+    @Operation(summary = "감사 이벤트 내보내기 (NDJSON/CSV)")
+    @GetMapping("/audit-events")
+    public ResponseEntity<StreamingResponseBody> exportAuditEvents(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            NativeWebRequest webRequest
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return attachment("audit-events", exportFormat,
+                adminExportService.exportAuditEvents(exportFormat, from, to, webRequest));
+    }
+
+    @Operation(summary = "신고 목록 내보내기 (NDJSON/CSV)")
+    @GetMapping("/reports")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            NativeWebRequest webRequest
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return attachment("reports", exportFormat, adminExportService.exportReports(exportFormat, status, webRequest));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(
+            String name,
+            ExportFormat format,
+            StreamingResponseBody body
+    ) {
+        String filename = name + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "." + format.extension();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
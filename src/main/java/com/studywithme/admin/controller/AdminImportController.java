@@ -0,0 +1,68 @@
+package com.studywithme.admin.controller;
+
+import com.studywithme.admin.importer.ImportFormat;
+import com.studywithme.admin.importer.ImportJobRunner;
+import com.studywithme.admin.importer.ImportResponse;
+import com.studywithme.admin.importer.MemberImportService;
+import com.studywithme.admin.importer.StudyImportService;
+import com.studywithme.global.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin")
+@RestController
+@RequestMapping("/admin/imports")
+public class AdminImportController {
+    private final MemberImportService memberImportService;
+    private final StudyImportService studyImportService;
+    private final ImportJobRunner importJobRunner;
+
+    public AdminImportController(
+            MemberImportService memberImportService,
+            StudyImportService studyImportService,
+            ImportJobRunner importJobRunner
+    ) {
+        this.memberImportService = memberImportService;
+        this.studyImportService = studyImportService;
+        this.importJobRunner = importJobRunner;
+    }
+
+    // 본문은 @RequestBody 로 묶지 않고 스트림 그대로 넘겨 메모리에 올리지 않는다.
+    @Operation(summary = "회원 대량 가져오기 (NDJSON/CSV)")
+    @PostMapping("/members")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<ImportResponse> importMembers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest httpRequest
+    ) throws IOException {
+        ImportFormat importFormat = ImportFormat.from(format);
+        return ApiResponse.success(memberImportService.start(httpRequest.getInputStream(), importFormat));
+    }
+
+    @Operation(summary = "스터디 대량 가져오기 (NDJSON/CSV)")
+    @PostMapping("/studies")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<ImportResponse> importStudies(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest httpRequest
+    ) throws IOException {
+        ImportFormat importFormat = ImportFormat.from(format);
+        return ApiResponse.success(studyImportService.start(httpRequest.getInputStream(), importFormat));
+    }
+
+    @Operation(summary = "가져오기 진행 상황 조회")
+    @GetMapping("/{jobId}")
+    public ApiResponse<ImportResponse> getImport(@PathVariable String jobId) {
+        return ApiResponse.success(importJobRunner.get(jobId));
+    }
+}
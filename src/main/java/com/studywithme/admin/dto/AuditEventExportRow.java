@@ -0,0 +1,17 @@
+package com.studywithme.admin.dto;
+
+import java.time.LocalDateTime;
+
+public record AuditEventExportRow(
+        Long id,
+        String actorType,
+        Long actorId,
+        String action,
+        String targetType,
+        Long targetId,
+        String beforeState,
+        String afterState,
+        String payloadJson,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.studywithme.admin.dto;
+
+import java.time.LocalDateTime;
+
+public record MemberExportRow(
+        Long id,
+        String email,
+        String name,
+        String role,
+        String status,
+        LocalDateTime createdAt
+) {
+}
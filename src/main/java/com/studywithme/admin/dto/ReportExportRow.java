@@ -0,0 +1,16 @@
+package com.studywithme.admin.dto;
+
+import java.time.LocalDateTime;
+
+public record ReportExportRow(
+        Long id,
+        Long reporterId,
+        String targetType,
+        Long targetId,
+        String reason,
+        String status,
+        Long processedBy,
+        LocalDateTime processedAt,
+        LocalDateTime createdAt
+) {
+}
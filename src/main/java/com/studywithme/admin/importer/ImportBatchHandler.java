@@ -0,0 +1,12 @@
+package com.studywithme.admin.importer;
+
+import java.util.List;
+
+// 대상별 가져오기. prepare 는 작업자 풀에서 배치마다 병렬로, write 는 insertConcurrency 안에서 부른다.
+// 잘못된 행은 prepare 에서 job.recordFailure 로 남기고 빼 두어 한 행 때문에 배치 전체가 실패하지 않게 한다.
+public interface ImportBatchHandler<T> {
+
+    T prepare(ImportJob job, List<ImportRow> batch);
+
+    void write(ImportJob job, T prepared);
+}
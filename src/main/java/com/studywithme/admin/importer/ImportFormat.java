@@ -0,0 +1,21 @@
+package com.studywithme.admin.importer;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import java.util.Locale;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static ImportFormat from(String value) {
+        if (value == null) {
+            throw new ApiException(ErrorCode.COMMON_INVALID_REQUEST);
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(ErrorCode.COMMON_INVALID_REQUEST);
+        }
+    }
+}
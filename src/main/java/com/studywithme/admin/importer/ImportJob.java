@@ -0,0 +1,109 @@
+package com.studywithme.admin.importer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 진행 중인 import 의 카운터. 작업 스레드가 갱신하고 진행률 조회가 읽는다.
+// skipped 는 이미 있어 건너뛴 행(회원은 가입된 이메일), failed 는 형식이 잘못되었거나 쓰기에 실패한 행이다.
+public class ImportJob {
+
+    public enum Target {
+        MEMBER,
+        STUDY
+    }
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final Target target;
+    private final ImportFormat format;
+    private final int maxErrorSamples;
+    private final long startedNanos = System.nanoTime();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger errorSampleCount = new AtomicInteger();
+    private final ConcurrentLinkedQueue<String> errorSamples = new ConcurrentLinkedQueue<>();
+    private volatile Status status = Status.RUNNING;
+    private volatile long finishedNanos;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(String id, Target target, ImportFormat format, int maxErrorSamples) {
+        this.id = id;
+        this.target = target;
+        this.format = format;
+        this.maxErrorSamples = maxErrorSamples;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    void recordRead() {
+        read.incrementAndGet();
+    }
+
+    void recordWritten(int insertedRows, int skippedRows) {
+        inserted.addAndGet(insertedRows);
+        skipped.addAndGet(skippedRows);
+    }
+
+    void recordFailure(long line, String message) {
+        recordFailures(1, "line " + line + ": " + message);
+    }
+
+    void recordFailures(int rows, String message) {
+        failed.addAndGet(rows);
+        if (errorSampleCount.getAndIncrement() < maxErrorSamples) {
+            errorSamples.add(message);
+        }
+    }
+
+    void finish(Status finalStatus) {
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    public ImportResponse toResponse() {
+        long end = status == Status.RUNNING ? System.nanoTime() : finishedNanos;
+        long elapsedMs = Math.max(1, (end - startedNanos) / 1_000_000);
+        long written = inserted.get() + skipped.get() + failed.get();
+        return new ImportResponse(
+                id,
+                status,
+                target,
+                format,
+                read.get(),
+                inserted.get(),
+                skipped.get(),
+                failed.get(),
+                elapsedMs,
+                written * 1_000 / elapsedMs,
+                new ArrayList<>(errorSamples),
+                startedAt,
+                finishedAt
+        );
+    }
+}
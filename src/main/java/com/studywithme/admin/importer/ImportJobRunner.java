@@ -0,0 +1,223 @@
+package com.studywithme.admin.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.global.logging.MdcTaskDecorator;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// 대량 가져오기의 공통 흐름. 요청 본문은 먼저 maxUploadBytes 까지만 스풀 파일로 흘려 쓰고, 작업 스레드가 파일을 한 줄씩 읽어 배치로 나눈다.
+// 배치는 작업자 풀에서 검사(회원은 해시까지)한 뒤 insertConcurrency 개까지만 동시에 쓴다.
+// 읽어 둔 배치 수를 maxInFlightBatches 로 묶어 입력 크기와 관계없이 힙 사용량이 일정하다.
+@Component
+public class ImportJobRunner {
+    private static final Logger log = LoggerFactory.getLogger(ImportJobRunner.class);
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ImportProperties properties;
+    private final MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+    private final Cache<String, ImportJob> jobs;
+    private final Semaphore jobSlots;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService workerExecutor;
+
+    public ImportJobRunner(ObjectMapper objectMapper, ImportProperties properties) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(properties.getJobRetentionHours()))
+                .build();
+        this.jobSlots = new Semaphore(properties.getMaxConcurrentJobs());
+        this.jobExecutor = Executors.newCachedThreadPool(new ImportThreadFactory("import-"));
+        this.workerExecutor = Executors.newFixedThreadPool(
+                properties.getWorkerThreads(), new ImportThreadFactory("import-worker-"));
+    }
+
+    public ImportResponse start(
+            ImportJob.Target target,
+            InputStream body,
+            ImportFormat format,
+            ImportBatchHandler<?> handler
+    ) {
+        if (!jobSlots.tryAcquire()) {
+            throw new ApiException(ErrorCode.COMMON_SERVICE_BUSY);
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), target, format, properties.getMaxErrorSamples());
+        Path spoolFile;
+        try {
+            spoolFile = spool(job.getId(), body);
+        } catch (IOException ex) {
+            jobSlots.release();
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            jobSlots.release();
+            throw ex;
+        }
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(mdcTaskDecorator.decorate(() -> {
+                try {
+                    run(job, spoolFile, handler);
+                } finally {
+                    jobSlots.release();
+                }
+            }));
+        } catch (RuntimeException ex) {
+            jobSlots.release();
+            jobs.invalidate(job.getId());
+            deleteQuietly(spoolFile);
+            throw ex;
+        }
+        return job.toResponse();
+    }
+
+    public ImportResponse get(String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ApiException(ErrorCode.ADMIN_IMPORT_NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    private Path spool(String jobId, InputStream body) throws IOException {
+        Path dir = Path.of(properties.getSpoolDir());
+        Files.createDirectories(dir);
+        Path file = dir.resolve(jobId + ".import");
+        long written = 0;
+        byte[] buffer = new byte[COPY_BUFFER_BYTES];
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                written += read;
+                if (written > properties.getMaxUploadBytes()) {
+                    throw new ApiException(ErrorCode.ADMIN_IMPORT_TOO_LARGE);
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException ex) {
+            deleteQuietly(file);
+            throw ex;
+        }
+        return file;
+    }
+
+    private <T> void run(ImportJob job, Path spoolFile, ImportBatchHandler<T> handler) {
+        Semaphore inFlight = new Semaphore(properties.getMaxInFlightBatches());
+        Semaphore inserters = new Semaphore(properties.getInsertConcurrency());
+        ImportJob.Status finalStatus = ImportJob.Status.COMPLETED;
+        try (ImportReader reader = ImportReader.open(spoolFile, job.getFormat(), objectMapper)) {
+            List<ImportRow> batch = new ArrayList<>(properties.getBatchSize());
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                job.recordRead();
+                batch.add(row);
+                if (batch.size() == properties.getBatchSize()) {
+                    dispatch(job, batch, inFlight, inserters, handler);
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+            if (!batch.isEmpty()) {
+                dispatch(job, batch, inFlight, inserters, handler);
+            }
+            // 남은 배치가 모두 끝날 때까지 기다린다.
+            inFlight.acquire(properties.getMaxInFlightBatches());
+        } catch (IOException | RuntimeException ex) {
+            finalStatus = ImportJob.Status.FAILED;
+            job.recordFailures(0, "import aborted: " + ex.getMessage());
+            log.warn("importFailed jobId={}, target={}", job.getId(), job.getTarget(), ex);
+        } catch (InterruptedException ex) {
+            finalStatus = ImportJob.Status.FAILED;
+            Thread.currentThread().interrupt();
+        } finally {
+            job.finish(finalStatus);
+            deleteQuietly(spoolFile);
+        }
+        ImportResponse result = job.toResponse();
+        log.info("importFinished jobId={}, target={}, status={}, read={}, inserted={}, skipped={}, failed={}, elapsedMs={}",
+                job.getId(), job.getTarget(), result.status(), result.readRows(), result.insertedRows(),
+                result.skippedRows(), result.failedRows(), result.elapsedMs());
+    }
+
+    private <T> void dispatch(
+            ImportJob job,
+            List<ImportRow> batch,
+            Semaphore inFlight,
+            Semaphore inserters,
+            ImportBatchHandler<T> handler
+    ) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            workerExecutor.execute(mdcTaskDecorator.decorate(() -> {
+                try {
+                    T prepared = handler.prepare(job, batch);
+                    inserters.acquireUninterruptibly();
+                    try {
+                        handler.write(job, prepared);
+                    } finally {
+                        inserters.release();
+                    }
+                } catch (RuntimeException ex) {
+                    job.recordFailures(batch.size(), "batch from line " + batch.get(0).line() + ": " + ex.getMessage());
+                    log.warn("importBatchFailed jobId={}, target={}, firstLine={}",
+                            job.getId(), job.getTarget(), batch.get(0).line(), ex);
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        } catch (RuntimeException ex) {
+            inFlight.release();
+            throw ex;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("importSpoolDeleteFailed file={}", file, ex);
+        }
+    }
+
+    private static final class ImportThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private ImportThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
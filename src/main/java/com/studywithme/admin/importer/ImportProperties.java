@@ -0,0 +1,128 @@
+package com.studywithme.admin.importer;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "admin.import")
+public class ImportProperties {
+
+    // multi-row INSERT 한 문장에 담는 행 수
+    @Min(1)
+    @Max(5_000)
+    private int batchSize = 1_000;
+
+    // 배치를 검사하고 해시하는 스레드 수. 로그인의 bcrypt 와 CPU 를 나눠 쓰므로 작게 둔다.
+    @Min(1)
+    private int workerThreads = 2;
+
+    // 읽어 두었지만 아직 쓰지 않은 배치 수. 힙 사용량의 상한이 된다.
+    @Min(1)
+    private int maxInFlightBatches = 8;
+
+    // 동시에 INSERT 하는 배치 수. 요청 트래픽의 커넥션을 남겨 두도록 작게 잡는다.
+    @Min(1)
+    private int insertConcurrency = 2;
+
+    // 평문 비밀번호를 해시할 cost. 운영 cost 보다 낮으면 첫 로그인 때 다시 해시된다.
+    @Min(4)
+    @Max(31)
+    private int hashStrength = 10;
+
+    private String spoolDir = "data/import-spool";
+
+    // 스풀 파일 한 개의 상한. 넘으면 업로드를 거절하고 쓰던 파일을 지운다.
+    @Min(1)
+    private long maxUploadBytes = 1_073_741_824L;
+
+    @Min(1)
+    private int maxConcurrentJobs = 1;
+
+    @Min(0)
+    private int maxErrorSamples = 20;
+
+    @Min(1)
+    private long jobRetentionHours = 24;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    public int getInsertConcurrency() {
+        return insertConcurrency;
+    }
+
+    public void setInsertConcurrency(int insertConcurrency) {
+        this.insertConcurrency = insertConcurrency;
+    }
+
+    public int getHashStrength() {
+        return hashStrength;
+    }
+
+    public void setHashStrength(int hashStrength) {
+        this.hashStrength = hashStrength;
+    }
+
+    public String getSpoolDir() {
+        return spoolDir;
+    }
+
+    public void setSpoolDir(String spoolDir) {
+        this.spoolDir = spoolDir;
+    }
+
+    public long getMaxUploadBytes() {
+        return maxUploadBytes;
+    }
+
+    public void setMaxUploadBytes(long maxUploadBytes) {
+        this.maxUploadBytes = maxUploadBytes;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public int getMaxErrorSamples() {
+        return maxErrorSamples;
+    }
+
+    public void setMaxErrorSamples(int maxErrorSamples) {
+        this.maxErrorSamples = maxErrorSamples;
+    }
+
+    public long getJobRetentionHours() {
+        return jobRetentionHours;
+    }
+
+    public void setJobRetentionHours(long jobRetentionHours) {
+        this.jobRetentionHours = jobRetentionHours;
+    }
+}
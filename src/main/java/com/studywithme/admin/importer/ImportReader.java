@@ -0,0 +1,112 @@
+package com.studywithme.admin.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// 파일을 한 줄씩 읽어 열 이름과 값의 행으로 바꾼다. 전체를 메모리에 올리지 않으며, 잘못된 줄 때문에 작업을 멈추지 않는다.
+// CSV 는 첫 줄을 헤더로 보고 열을 이름으로 찾는다. 어떤 열을 쓸지는 대상별 레코드가 정한다.
+public class ImportReader implements Closeable {
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> csvColumns;
+    private long lineNumber;
+
+    private ImportReader(BufferedReader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    public static ImportReader open(Path file, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        return new ImportReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), format, objectMapper);
+    }
+
+    // 끝에 닿으면 null
+    public ImportRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BOM) {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == ImportFormat.NDJSON) {
+                return parseJson(line);
+            }
+            if (csvColumns == null) {
+                csvColumns = parseHeader(line);
+                continue;
+            }
+            return parseCsv(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRow parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                return ImportRow.invalid(lineNumber, "not a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                JsonNode value = entry.getValue();
+                if (!value.isNull()) {
+                    fields.put(ImportRow.normalize(entry.getKey()), value.isValueNode() ? value.asText() : value.toString());
+                }
+            }
+            return new ImportRow(lineNumber, fields, null);
+        } catch (JsonProcessingException ex) {
+            return ImportRow.invalid(lineNumber, "malformed JSON");
+        }
+    }
+
+    private ImportRow parseCsv(String line) {
+        List<String> values;
+        try {
+            values = CsvLineParser.parse(line);
+        } catch (IllegalArgumentException ex) {
+            return ImportRow.invalid(lineNumber, ex.getMessage());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < Math.min(values.size(), csvColumns.size()); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                fields.put(csvColumns.get(i), value);
+            }
+        }
+        return new ImportRow(lineNumber, fields, null);
+    }
+
+    private static List<String> parseHeader(String line) {
+        List<String> columns = new ArrayList<>();
+        for (String name : CsvLineParser.parse(line)) {
+            columns.add(ImportRow.normalize(name));
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,21 @@
+package com.studywithme.admin.importer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ImportResponse(
+        String jobId,
+        ImportJob.Status status,
+        ImportJob.Target target,
+        ImportFormat format,
+        long readRows,
+        long insertedRows,
+        long skippedRows,
+        long failedRows,
+        long elapsedMs,
+        long rowsPerSecond,
+        List<String> errors,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,21 @@
+package com.studywithme.admin.importer;
+
+import java.util.Locale;
+import java.util.Map;
+
+// 입력 한 줄. 열 이름은 소문자로 바꾸고 밑줄을 빼서 passwordHash 와 password_hash 를 같은 열로 본다.
+// 파싱에 실패한 줄은 error 만 채워 돌려준다.
+public record ImportRow(long line, Map<String, String> fields, String error) {
+
+    public static ImportRow invalid(long line, String error) {
+        return new ImportRow(line, Map.of(), error);
+    }
+
+    public String get(String name) {
+        return fields.get(normalize(name));
+    }
+
+    static String normalize(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,77 @@
+package com.studywithme.admin.importer;
+
+import com.studywithme.member.domain.MemberRole;
+import com.studywithme.member.domain.MemberStatus;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 회원 한 행. 열은 email, password, password_hash, name, role, status 이다.
+public record MemberImportRecord(
+        long line,
+        String email,
+        String password,
+        String passwordHash,
+        String name,
+        String role,
+        String status,
+        String error
+) {
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 50;
+    // 가입과 같은 비밀번호 규칙(SignupRequest)
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_LENGTH = 20;
+
+    public static MemberImportRecord from(ImportRow row) {
+        return new MemberImportRecord(
+                row.line(),
+                row.get("email"),
+                row.get("password"),
+                row.get("passwordHash"),
+                row.get("name"),
+                row.get("role"),
+                row.get("status"),
+                row.error()
+        );
+    }
+
+    // 문제가 없으면 null. INSERT IGNORE 가 길이나 값 오류를 경고로 묻지 않도록 미리 검사한다.
+    public String validate() {
+        if (error != null) {
+            return error;
+        }
+        if (email == null || email.length() > MAX_EMAIL_LENGTH || email.indexOf('@') < 1) {
+            return "invalid email";
+        }
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            return "invalid name";
+        }
+        if (passwordHash != null) {
+            if (!BCRYPT_HASH.matcher(passwordHash).matches()) {
+                return "passwordHash must be a bcrypt hash";
+            }
+        } else if (password == null || password.isBlank()) {
+            return "password or passwordHash is required";
+        } else if (password.length() < MIN_PASSWORD_LENGTH || password.length() > MAX_PASSWORD_LENGTH) {
+            return "password must be " + MIN_PASSWORD_LENGTH + " to " + MAX_PASSWORD_LENGTH + " characters";
+        }
+        try {
+            if (resolveRole() == MemberRole.ADMIN) {
+                return "ADMIN role cannot be imported";
+            }
+            resolveStatus();
+        } catch (IllegalArgumentException ex) {
+            return "invalid role or status";
+        }
+        return null;
+    }
+
+    public MemberRole resolveRole() {
+        return role == null ? MemberRole.PARTICIPANT : MemberRole.valueOf(role.toUpperCase(Locale.ROOT));
+    }
+
+    public MemberStatus resolveStatus() {
+        return status == null ? MemberStatus.ACTIVE : MemberStatus.valueOf(status.toUpperCase(Locale.ROOT));
+    }
+}
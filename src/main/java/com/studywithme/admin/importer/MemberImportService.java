@@ -0,0 +1,91 @@
+package com.studywithme.admin.importer;
+
+import com.studywithme.member.service.EmailExistenceFilter;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+// 대량 회원 가져오기. 평문 비밀번호는 작업자 풀에서 해시하고, 배치를 multi-row INSERT IGNORE 한 문장으로 쓴다.
+// 이미 가입된 이메일은 uk_member_email 에 걸려 건너뛴다. 그 외 오류가 IGNORE 로 묻히지 않도록 길이와 값은 미리 검사한다.
+@Service
+public class MemberImportService implements ImportBatchHandler<List<Object[]>> {
+    private static final String INSERT_PREFIX = "INSERT IGNORE INTO member (email, password_hash, name, role, status) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final ImportJobRunner importJobRunner;
+    private final BCryptPasswordEncoder passwordEncoder;
+
+    public MemberImportService(
+            JdbcTemplate jdbcTemplate,
+            EmailExistenceFilter emailExistenceFilter,
+            ImportJobRunner importJobRunner,
+            ImportProperties properties
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.emailExistenceFilter = emailExistenceFilter;
+        this.importJobRunner = importJobRunner;
+        this.passwordEncoder = new BCryptPasswordEncoder(properties.getHashStrength());
+    }
+
+    public ImportResponse start(InputStream body, ImportFormat format) {
+        return importJobRunner.start(ImportJob.Target.MEMBER, body, format, this);
+    }
+
+    @Override
+    public List<Object[]> prepare(ImportJob job, List<ImportRow> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            MemberImportRecord record = MemberImportRecord.from(row);
+            String error = record.validate();
+            if (error != null) {
+                job.recordFailure(record.line(), error);
+                continue;
+            }
+            String passwordHash;
+            try {
+                passwordHash = record.passwordHash() != null
+                        ? record.passwordHash()
+                        : passwordEncoder.encode(record.password());
+            } catch (IllegalArgumentException ex) {
+                job.recordFailure(record.line(), "password cannot be hashed");
+                continue;
+            }
+            rows.add(new Object[] {
+                    record.email(),
+                    passwordHash,
+                    record.name(),
+                    record.resolveRole().name(),
+                    record.resolveStatus().name()
+            });
+        }
+        return rows;
+    }
+
+    @Override
+    public void write(ImportJob job, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Object[] args = new Object[rows.size() * COLUMNS];
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            System.arraycopy(rows.get(i), 0, args, i * COLUMNS, COLUMNS);
+        }
+        int inserted = jdbcTemplate.update(sql.toString(), args);
+        job.recordWritten(inserted, rows.size() - inserted);
+        for (Object[] row : rows) {
+            emailExistenceFilter.add((String) row[0]);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.studywithme.admin.importer;
+
+import com.studywithme.study.domain.StudyStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+// 스터디 한 행. 열은 leader_email, title, description, category, level, is_online, region,
+// recruit_end_at, start_at, end_at, status, capacity 이다. 일시는 ISO-8601(2024-03-01T10:00:00) 로 받는다.
+// 회원 id 는 가져오면서 새로 매겨지므로 스터디장은 이메일로 찾는다. capacity 가 있으면 정원 행도 만든다.
+public record StudyImportRecord(
+        long line,
+        String leaderEmail,
+        String title,
+        String description,
+        String category,
+        String level,
+        boolean online,
+        String region,
+        LocalDateTime recruitEndAt,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        StudyStatus status,
+        Integer capacity,
+        String error
+) {
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_BYTES = 65_535;
+    private static final int MAX_CATEGORY_LENGTH = 50;
+    private static final int MAX_LEVEL_LENGTH = 20;
+    private static final int MAX_REGION_LENGTH = 50;
+
+    public static StudyImportRecord from(ImportRow row) {
+        if (row.error() != null) {
+            return invalid(row.line(), row.error());
+        }
+        String error = validateText(row);
+        if (error != null) {
+            return invalid(row.line(), error);
+        }
+        Boolean online = parseBoolean(row.get("isOnline"));
+        if (online == null) {
+            return invalid(row.line(), "invalid is_online");
+        }
+        LocalDateTime recruitEndAt;
+        LocalDateTime startAt;
+        LocalDateTime endAt;
+        try {
+            recruitEndAt = LocalDateTime.parse(required(row, "recruitEndAt"));
+            startAt = LocalDateTime.parse(required(row, "startAt"));
+            endAt = LocalDateTime.parse(required(row, "endAt"));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            return invalid(row.line(), "recruit_end_at, start_at and end_at must be ISO-8601 date-times");
+        }
+        if (startAt.isAfter(endAt)) {
+            return invalid(row.line(), "start_at is after end_at");
+        }
+        StudyStatus status;
+        try {
+            status = StudyStatus.valueOf(required(row, "status").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return invalid(row.line(), "invalid status");
+        }
+        Integer capacity;
+        try {
+            capacity = row.get("capacity") == null ? null : Integer.valueOf(row.get("capacity"));
+        } catch (NumberFormatException ex) {
+            return invalid(row.line(), "invalid capacity");
+        }
+        if (capacity != null && capacity < 1) {
+            return invalid(row.line(), "invalid capacity");
+        }
+        return new StudyImportRecord(
+                row.line(),
+                row.get("leaderEmail"),
+                row.get("title"),
+                row.get("description"),
+                row.get("category"),
+                row.get("level"),
+                online,
+                row.get("region"),
+                recruitEndAt,
+                startAt,
+                endAt,
+                status,
+                capacity,
+                null
+        );
+    }
+
+    private static StudyImportRecord invalid(long line, String error) {
+        return new StudyImportRecord(line, null, null, null, null, null, false, null, null, null, null, null, null, error);
+    }
+
+    private static String validateText(ImportRow row) {
+        if (row.get("leaderEmail") == null) {
+            return "leader_email is required";
+        }
+        String title = row.get("title");
+        if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH) {
+            return "invalid title";
+        }
+        String description = row.get("description");
+        if (description == null || description.getBytes(StandardCharsets.UTF_8).length > MAX_DESCRIPTION_BYTES) {
+            return "invalid description";
+        }
+        if (tooLong(row.get("category"), MAX_CATEGORY_LENGTH)
+                || tooLong(row.get("level"), MAX_LEVEL_LENGTH)
+                || tooLong(row.get("region"), MAX_REGION_LENGTH)) {
+            return "category, level or region is too long";
+        }
+        return null;
+    }
+
+    private static String required(ImportRow row, String name) {
+        String value = row.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        return value;
+    }
+
+    // 없으면 오프라인으로 본다.
+    private static Boolean parseBoolean(String value) {
+        if (value == null || value.equals("0") || value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (value.equals("1") || value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        return null;
+    }
+
+    private static boolean tooLong(String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+}
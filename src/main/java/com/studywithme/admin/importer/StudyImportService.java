@@ -0,0 +1,187 @@
+package com.studywithme.admin.importer;
+
+import com.studywithme.study.domain.StudyChangedEvent;
+import com.studywithme.study.domain.StudyStatus;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 대량 스터디 가져오기. 배치의 스터디장 이메일을 한 번에 id 로 바꾸고, study 와 capacity 를 각각 multi-row INSERT 한 문장으로 쓴다.
+// 두 INSERT 는 한 트랜잭션이라 정원 행 없는 스터디가 남지 않는다.
+// 모집 중인 스터디만 StudyChangedEvent 를 내 마감 예약과 검색 색인에 바로 반영한다. 나머지는 색인 주기 재구성 때 들어간다.
+@Service
+public class StudyImportService implements ImportBatchHandler<List<StudyImportRecord>> {
+    private static final Logger log = LoggerFactory.getLogger(StudyImportService.class);
+    private static final String INSERT_STUDY_PREFIX = "INSERT INTO study (leader_id, title, description, category, level, "
+            + "is_online, region, recruit_end_at, start_at, end_at, status) VALUES ";
+    private static final String STUDY_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int STUDY_COLUMNS = 11;
+    private static final String INSERT_CAPACITY_PREFIX = "INSERT INTO capacity (study_id, total, remain) VALUES ";
+    private static final String CAPACITY_PLACEHOLDER = "(?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportJobRunner importJobRunner;
+
+    public StudyImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            ImportJobRunner importJobRunner
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.importJobRunner = importJobRunner;
+    }
+
+    public ImportResponse start(InputStream body, ImportFormat format) {
+        return importJobRunner.start(ImportJob.Target.STUDY, body, format, this);
+    }
+
+    @Override
+    public List<StudyImportRecord> prepare(ImportJob job, List<ImportRow> batch) {
+        List<StudyImportRecord> records = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            StudyImportRecord record = StudyImportRecord.from(row);
+            if (record.error() != null) {
+                job.recordFailure(record.line(), record.error());
+                continue;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Override
+    public void write(ImportJob job, List<StudyImportRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Map<String, Long> leaderIds = findLeaderIds(records);
+        List<StudyImportRecord> rows = new ArrayList<>(records.size());
+        List<Long> rowLeaderIds = new ArrayList<>(records.size());
+        for (StudyImportRecord record : records) {
+            Long leaderId = leaderIds.get(record.leaderEmail().toLowerCase(Locale.ROOT));
+            if (leaderId == null) {
+                job.recordFailure(record.line(), "leader not found");
+                continue;
+            }
+            rows.add(record);
+            rowLeaderIds.add(leaderId);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Long> studyIds = transactionTemplate.execute(status -> {
+            List<Long> ids = insertStudies(rows, rowLeaderIds);
+            insertCapacities(rows, ids);
+            return ids;
+        });
+        job.recordWritten(rows.size(), 0);
+        for (int i = 0; i < rows.size(); i++) {
+            if (rows.get(i).status() == StudyStatus.RECRUITING) {
+                publishChanged(studyIds.get(i));
+            }
+        }
+    }
+
+    // member.email 은 대소문자를 가리지 않는 collation 이라 소문자로 맞춰 찾는다.
+    private Map<String, Long> findLeaderIds(List<StudyImportRecord> records) {
+        List<String> emails = records.stream().map(StudyImportRecord::leaderEmail).distinct().toList();
+        String placeholders = String.join(", ", Collections.nCopies(emails.size(), "?"));
+        Map<String, Long> leaderIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, email FROM member WHERE email IN (" + placeholders + ")",
+                (RowCallbackHandler) resultSet ->
+                        leaderIds.put(resultSet.getString("email").toLowerCase(Locale.ROOT), resultSet.getLong("id")),
+                emails.toArray());
+        return leaderIds;
+    }
+
+    // 한 문장의 multi-row INSERT 는 AUTO_INCREMENT 값을 연속으로 받으므로 드라이버가 돌려주는 키 순서가 행 순서와 같다.
+    private List<Long> insertStudies(List<StudyImportRecord> rows, List<Long> leaderIds) {
+        Object[] args = new Object[rows.size() * STUDY_COLUMNS];
+        StringBuilder sql = new StringBuilder(INSERT_STUDY_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(STUDY_PLACEHOLDER);
+            StudyImportRecord row = rows.get(i);
+            int offset = i * STUDY_COLUMNS;
+            args[offset] = leaderIds.get(i);
+            args[offset + 1] = row.title();
+            args[offset + 2] = row.description();
+            args[offset + 3] = row.category();
+            args[offset + 4] = row.level();
+            args[offset + 5] = row.online();
+            args[offset + 6] = row.region();
+            args[offset + 7] = row.recruitEndAt();
+            args[offset + 8] = row.startAt();
+            args[offset + 9] = row.endAt();
+            args[offset + 10] = row.status().name();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            new ArgumentPreparedStatementSetter(args).setValues(statement);
+            return statement;
+        }, keyHolder);
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+        if (ids.size() != rows.size()) {
+            throw new IllegalStateException("expected " + rows.size() + " generated keys but got " + ids.size());
+        }
+        return ids;
+    }
+
+    // 신청 이력은 옮기지 않으므로 남은 자리는 정원과 같게 둔다.
+    private void insertCapacities(List<StudyImportRecord> rows, List<Long> studyIds) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(INSERT_CAPACITY_PREFIX);
+        for (int i = 0; i < rows.size(); i++) {
+            Integer capacity = rows.get(i).capacity();
+            if (capacity == null) {
+                continue;
+            }
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(CAPACITY_PLACEHOLDER);
+            args.add(studyIds.get(i));
+            args.add(capacity);
+            args.add(capacity);
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    // 이미 커밋된 행이므로 리스너가 실패해도 배치를 실패로 세지 않는다.
+    private void publishChanged(Long studyId) {
+        try {
+            eventPublisher.publishEvent(new StudyChangedEvent(studyId));
+        } catch (RuntimeException ex) {
+            log.warn("studyImportNotifyFailed studyId={}", studyId, ex);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.studywithme.admin.repository;
+
+import com.studywithme.admin.dto.AuditEventExportRow;
+import com.studywithme.admin.dto.MemberExportRow;
+import com.studywithme.admin.dto.ReportExportRow;
+import java.time.LocalDateTime;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+// 반환된 Cursor 는 트랜잭션(SqlSession)이 열려 있는 동안에만 읽을 수 있다.
+@Mapper
+public interface AdminExportMapper {
+
+    Cursor<MemberExportRow> streamMembers(@Param("status") String status);
+
+    Cursor<AuditEventExportRow> streamAuditEvents(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    Cursor<ReportExportRow> streamReports(@Param("status") String status);
+}
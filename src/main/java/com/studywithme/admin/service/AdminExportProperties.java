@@ -0,0 +1,45 @@
+package com.studywithme.admin.service;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "admin.export")
+public class AdminExportProperties {
+
+    // 내보내기 하나가 끝날 때까지 커넥션 하나를 붙잡으므로 동시 실행 수를 작게 묶는다.
+    @Min(1)
+    private int maxConcurrentExports = 2;
+
+    @Min(1)
+    private int flushEveryRows = 1_000;
+
+    // 내보내기 요청에만 거는 비동기 타임아웃. 전역 spring.mvc.async.request-timeout 은 건드리지 않는다.
+    @Min(1)
+    private long asyncTimeoutMs = 1_800_000;
+
+    public int getMaxConcurrentExports() {
+        return maxConcurrentExports;
+    }
+
+    public void setMaxConcurrentExports(int maxConcurrentExports) {
+        this.maxConcurrentExports = maxConcurrentExports;
+    }
+
+    public int getFlushEveryRows() {
+        return flushEveryRows;
+    }
+
+    public void setFlushEveryRows(int flushEveryRows) {
+        this.flushEveryRows = flushEveryRows;
+    }
+
+    public long getAsyncTimeoutMs() {
+        return asyncTimeoutMs;
+    }
+
+    public void setAsyncTimeoutMs(long asyncTimeoutMs) {
+        this.asyncTimeoutMs = asyncTimeoutMs;
+    }
+}
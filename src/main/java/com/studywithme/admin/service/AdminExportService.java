@@ -0,0 +1,182 @@
+package com.studywithme.admin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studywithme.admin.dto.AuditEventExportRow;
+import com.studywithme.admin.dto.MemberExportRow;
+import com.studywithme.admin.dto.ReportExportRow;
+import com.studywithme.admin.repository.AdminExportMapper;
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.global.export.ExportColumn;
+import com.studywithme.global.export.ExportFormat;
+import com.studywithme.global.export.StreamingExportWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// 관리자 내보내기. PageResponse 처럼 목록을 모으지 않고 MyBatis Cursor 로 한 행씩 읽어 바로 응답에 쓴다.
+// Cursor 는 SqlSession 이 열려 있어야 읽히므로 본문을 쓰는 동안 읽기 전용 트랜잭션을 유지한다.
+// 라우팅이 켜져 있으면 이 트랜잭션은 replica 로 간다.
+@Service
+public class AdminExportService {
+    private static final Logger log = LoggerFactory.getLogger(AdminExportService.class);
+    private static final String EXPORT_SLOT_INTERCEPTOR = AdminExportService.class.getName() + ".exportSlot";
+
+    private static final List<ExportColumn<MemberExportRow>> MEMBER_COLUMNS = List.of(
+            new ExportColumn<>("id", MemberExportRow::id),
+            new ExportColumn<>("email", MemberExportRow::email),
+            new ExportColumn<>("name", MemberExportRow::name),
+            new ExportColumn<>("role", MemberExportRow::role),
+            new ExportColumn<>("status", MemberExportRow::status),
+            new ExportColumn<>("createdAt", MemberExportRow::createdAt)
+    );
+
+    private static final List<ExportColumn<AuditEventExportRow>> AUDIT_EVENT_COLUMNS = List.of(
+            new ExportColumn<>("id", AuditEventExportRow::id),
+            new ExportColumn<>("actorType", AuditEventExportRow::actorType),
+            new ExportColumn<>("actorId", AuditEventExportRow::actorId),
+            new ExportColumn<>("action", AuditEventExportRow::action),
+            new ExportColumn<>("targetType", AuditEventExportRow::targetType),
+            new ExportColumn<>("targetId", AuditEventExportRow::targetId),
+            new ExportColumn<>("beforeState", AuditEventExportRow::beforeState),
+            new ExportColumn<>("afterState", AuditEventExportRow::afterState),
+            new ExportColumn<>("payloadJson", AuditEventExportRow::payloadJson),
+            new ExportColumn<>("createdAt", AuditEventExportRow::createdAt)
+    );
+
+    private static final List<ExportColumn<ReportExportRow>> REPORT_COLUMNS = List.of(
+            new ExportColumn<>("id", ReportExportRow::id),
+            new ExportColumn<>("reporterId", ReportExportRow::reporterId),
+            new ExportColumn<>("targetType", ReportExportRow::targetType),
+            new ExportColumn<>("targetId", ReportExportRow::targetId),
+            new ExportColumn<>("reason", ReportExportRow::reason),
+            new ExportColumn<>("status", ReportExportRow::status),
+            new ExportColumn<>("processedBy", ReportExportRow::processedBy),
+            new ExportColumn<>("processedAt", ReportExportRow::processedAt),
+            new ExportColumn<>("createdAt", ReportExportRow::createdAt)
+    );
+
+    private final AdminExportMapper adminExportMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AdminExportProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore exportSlots;
+
+    public AdminExportService(
+            AdminExportMapper adminExportMapper,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            AdminExportProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.adminExportMapper = adminExportMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.exportSlots = new Semaphore(properties.getMaxConcurrentExports());
+    }
+
+    public StreamingResponseBody exportMembers(ExportFormat format, String status, NativeWebRequest webRequest) {
+        return export("members", format, MEMBER_COLUMNS, mapper -> mapper.streamMembers(status), webRequest);
+    }
+
+    public StreamingResponseBody exportAuditEvents(
+            ExportFormat format,
+            LocalDateTime from,
+            LocalDateTime to,
+            NativeWebRequest webRequest
+    ) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ApiException(ErrorCode.COMMON_INVALID_REQUEST);
+        }
+        return export("auditEvents", format, AUDIT_EVENT_COLUMNS,
+                mapper -> mapper.streamAuditEvents(from, to), webRequest);
+    }
+
+    public StreamingResponseBody exportReports(ExportFormat format, String status, NativeWebRequest webRequest) {
+        return export("reports", format, REPORT_COLUMNS, mapper -> mapper.streamReports(status), webRequest);
+    }
+
+    // 슬롯은 요청 스레드에서 잡아 바로 거절하고, 본문이 끝나거나 비동기 요청이 타임아웃·오류로 끝날 때 한 번만 돌려준다.
+    // 본문이 실행되지 못하고 끝나는 요청도 afterCompletion 은 불리므로 슬롯이 새지 않는다.
+    private <T> StreamingResponseBody export(
+            String type,
+            ExportFormat format,
+            List<ExportColumn<T>> columns,
+            Function<AdminExportMapper, Cursor<T>> query,
+            NativeWebRequest webRequest
+    ) {
+        if (!exportSlots.tryAcquire()) {
+            throw new ApiException(ErrorCode.COMMON_SERVICE_BUSY);
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (released.compareAndSet(false, true)) {
+                exportSlots.release();
+            }
+        };
+        try {
+            // RequestMappingHandlerAdapter 가 넘기는 WebRequest 는 AsyncWebRequest 이고, 여기서 바꾼 값은 startAsync 때 적용된다.
+            if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                asyncWebRequest.setTimeout(properties.getAsyncTimeoutMs());
+            }
+            WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(
+                    EXPORT_SLOT_INTERCEPTOR, new CallableProcessingInterceptor() {
+                        @Override
+                        public <V> void afterCompletion(NativeWebRequest request, Callable<V> task) {
+                            releaseSlot.run();
+                        }
+                    });
+        } catch (RuntimeException ex) {
+            releaseSlot.run();
+            throw ex;
+        }
+        return outputStream -> {
+            long start = System.nanoTime();
+            try {
+                long rows = readOnlyTransaction.execute(tx -> {
+                    try (Cursor<T> cursor = query.apply(adminExportMapper);
+                         StreamingExportWriter<T> writer = new StreamingExportWriter<>(
+                                 format, columns, objectMapper, outputStream, properties.getFlushEveryRows())) {
+                        for (T row : cursor) {
+                            writer.write(row);
+                        }
+                        return writer.rows();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                meterRegistry.counter("admin.export.rows", "type", type).increment(rows);
+                log.info("adminExportFinished type={}, format={}, rows={}, elapsedMs={}",
+                        type, format, rows, (System.nanoTime() - start) / 1_000_000);
+            } catch (UncheckedIOException ex) {
+                // 대부분 클라이언트가 연결을 끊은 경우다. Cursor 와 트랜잭션은 위에서 이미 닫혔다.
+                log.warn("adminExportAborted type={}, format={}, elapsedMs={}",
+                        type, format, (System.nanoTime() - start) / 1_000_000, ex);
+                throw ex.getCause();
+            } finally {
+                releaseSlot.run();
+            }
+        };
+    }
+}
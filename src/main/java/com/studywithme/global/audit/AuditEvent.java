@@ -0,0 +1,37 @@
+package com.studywithme.global.audit;
+
+import java.time.LocalDateTime;
+
+// audit_event 한 행. 스필 파일에도 이 형태 그대로 JSON 한 줄로 남는다.
+public record AuditEvent(
+        String actorType,
+        Long actorId,
+        String action,
+        String targetType,
+        Long targetId,
+        String beforeState,
+        String afterState,
+        String payloadJson,
+        LocalDateTime createdAt
+) {
+    public static AuditEvent of(
+            Long actorId,
+            String action,
+            String targetType,
+            Long targetId,
+            String beforeState,
+            String afterState
+    ) {
+        return new AuditEvent(
+                actorId == null ? "SYSTEM" : "MEMBER",
+                actorId,
+                action,
+                targetType,
+                targetId,
+                beforeState,
+                afterState,
+                null,
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.studywithme.global.audit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 비즈니스 트랜잭션이 커밋된 뒤에만 큐에 넣는다. 롤백된 상태 전이는 남기지 않는다.
+@Component
+public class AuditEventPublisher {
+    private final AuditEventWriter auditEventWriter;
+
+    public AuditEventPublisher(AuditEventWriter auditEventWriter) {
+        this.auditEventWriter = auditEventWriter;
+    }
+
+    public void publish(AuditEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            auditEventWriter.enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditEventWriter.enqueue(event);
+            }
+        });
+    }
+}
@@ -0,0 +1,275 @@
+package com.studywithme.global.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 감사 이벤트를 비즈니스 트랜잭션 밖에서 모아 multi-row INSERT 로 쓴다.
+// - 큐: ConcurrentLinkedQueue + CAS 로 센 크기 상한 (lock-free)
+// - flush: batch-size 가 차거나 flush-interval 이 지나면 전용 스레드가 한 번에 쓴다.
+// - 큐가 가득 차거나 DB 쓰기가 실패하면 스필 파일(fsync)로 남기고, 주기적으로 다시 적재한다.
+// - 제약 위반처럼 다시 해도 실패할 파일은 spill-max-replay-attempts 번 뒤 격리해 뒤 파일을 막지 않게 한다.
+public class AuditEventWriter {
+    private static final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+    private static final String INSERT_PREFIX = "INSERT INTO audit_event (actor_type, actor_id, action, target_type,"
+            + " target_id, before_state, after_state, payload_json, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 9;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditSpillStore spillStore;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxReplayAttempts;
+    private final String fullBatchSql;
+
+    private final ConcurrentLinkedQueue<AuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    // 재적재는 스케줄러 스레드 하나에서만 돈다.
+    private final Map<Path, Integer> replayFailures = new HashMap<>();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter replayedCounter;
+    private final Counter quarantinedCounter;
+
+    public AuditEventWriter(
+            JdbcTemplate jdbcTemplate,
+            AuditSpillStore spillStore,
+            AuditProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spillStore = spillStore;
+        this.queueCapacity = properties.getQueueCapacity();
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        this.maxReplayAttempts = properties.getSpillMaxReplayAttempts();
+        this.fullBatchSql = insertSql(batchSize);
+
+        Gauge.builder("audit.queue.depth", depth, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("audit.spill.files", this, AuditEventWriter::pendingSpillFiles).register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events").tag("result", "written").register(meterRegistry);
+        this.spilledCounter = Counter.builder("audit.events").tag("result", "spilled").register(meterRegistry);
+        this.replayedCounter = Counter.builder("audit.events").tag("result", "replayed").register(meterRegistry);
+        this.quarantinedCounter = Counter.builder("audit.spill.quarantined").register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlushLoop, "audit-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public void enqueue(AuditEvent event) {
+        int current;
+        do {
+            current = depth.get();
+            if (current >= queueCapacity) {
+                // 백프레셔: 버리지 않고 호출 스레드가 디스크 속도로 직접 남긴다.
+                spill(List.of(event));
+                return;
+            }
+        } while (!depth.compareAndSet(current, current + 1));
+        queue.offer(event);
+        if (current + 1 >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${audit.spill-replay-interval-ms:30000}",
+            fixedDelayString = "${audit.spill-replay-interval-ms:30000}"
+    )
+    public void replaySpilled() {
+        List<Path> files;
+        try {
+            files = spillStore.pendingFiles();
+        } catch (IOException ex) {
+            log.warn("auditSpillListFailed message={}", ex.getMessage());
+            return;
+        }
+        for (Path file : files) {
+            List<AuditEvent> events;
+            try {
+                events = spillStore.read(file);
+            } catch (JsonProcessingException ex) {
+                // 깨진 줄은 다시 읽어도 깨져 있다.
+                log.error("auditSpillUnreadable file={}, message={}", file.getFileName(), ex.getMessage());
+                quarantine(file);
+                continue;
+            } catch (IOException ex) {
+                log.warn("auditSpillReadFailed file={}, message={}", file.getFileName(), ex.getMessage());
+                return;
+            }
+            try {
+                for (int from = 0; from < events.size(); from += batchSize) {
+                    insert(events.subList(from, Math.min(events.size(), from + batchSize)));
+                }
+                replayFailures.remove(file);
+                replayedCounter.increment(events.size());
+                spillStore.delete(file);
+            } catch (DataAccessException ex) {
+                if (isTransient(ex)) {
+                    // DB 가 아직 느리거나 죽어 있다. 순서를 지키기 위해 다음 주기에 이 파일부터 다시 한다.
+                    log.warn("auditSpillReplayFailed file={}, message={}", file.getFileName(), ex.getMessage());
+                    return;
+                }
+                int attempts = replayFailures.merge(file, 1, Integer::sum);
+                log.warn("auditSpillReplayRejected file={}, attempts={}, message={}",
+                        file.getFileName(), attempts, ex.getMessage());
+                if (attempts >= maxReplayAttempts) {
+                    quarantine(file);
+                }
+            } catch (IOException ex) {
+                // 적재는 끝났지만 파일이 남아 다음 주기에 한 번 더 들어갈 수 있다.
+                log.warn("auditSpillDeleteFailed file={}, message={}", file.getFileName(), ex.getMessage());
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    int depth() {
+        return depth.get();
+    }
+
+    private void runFlushLoop() {
+        while (running || depth.get() > 0) {
+            if (running && depth.get() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            try {
+                flushOnce();
+            } catch (RuntimeException ex) {
+                log.error("auditFlushLoopFailed", ex);
+            }
+        }
+    }
+
+    private void flushOnce() {
+        List<AuditEvent> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            insert(batch);
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException ex) {
+            log.warn("auditFlushFailed size={}, message={}", batch.size(), ex.getMessage());
+            spill(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<AuditEvent> drain() {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(batchSize, Math.max(depth.get(), 1)));
+        AuditEvent event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+        depth.addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void insert(List<AuditEvent> events) {
+        String sql = events.size() == batchSize ? fullBatchSql : insertSql(events.size());
+        Object[] args = new Object[events.size() * COLUMNS];
+        int i = 0;
+        for (AuditEvent event : events) {
+            args[i++] = event.actorType();
+            args[i++] = event.actorId();
+            args[i++] = event.action();
+            args[i++] = event.targetType();
+            args[i++] = event.targetId();
+            args[i++] = event.beforeState();
+            args[i++] = event.afterState();
+            args[i++] = event.payloadJson();
+            args[i++] = Timestamp.valueOf(event.createdAt());
+        }
+        jdbcTemplate.update(sql, args);
+    }
+
+    private void spill(List<AuditEvent> events) {
+        try {
+            spillStore.append(events);
+            spilledCounter.increment(events.size());
+        } catch (IOException ex) {
+            // 디스크까지 실패하면 남길 곳이 없다. 로그로라도 남긴다.
+            log.error("auditSpillFailed size={}, events={}", events.size(), events, ex);
+        }
+    }
+
+    private void quarantine(Path file) {
+        replayFailures.remove(file);
+        try {
+            Path moved = spillStore.quarantine(file);
+            quarantinedCounter.increment();
+            log.error("auditSpillQuarantined file={}, movedTo={}", file.getFileName(), moved);
+        } catch (IOException ex) {
+            log.error("auditSpillQuarantineFailed file={}, message={}", file.getFileName(), ex.getMessage());
+        }
+    }
+
+    // 연결 실패·타임아웃·락 대기처럼 시간이 지나면 풀릴 수 있는 오류만 순서를 지켜 기다린다.
+    private static boolean isTransient(DataAccessException ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof RecoverableDataAccessException
+                || ex instanceof DataAccessResourceFailureException;
+    }
+
+    private double pendingSpillFiles() {
+        try {
+            return spillStore.pendingFiles().size();
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.studywithme.global.audit;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    // 큐가 가득 차면 요청 스레드가 직접 스필 파일에 쓴다.
+    @Min(1)
+    private int queueCapacity = 65_536;
+
+    @Min(1)
+    private int batchSize = 500;
+
+    @Min(1)
+    private long flushIntervalMs = 200;
+
+    @NotBlank
+    private String spillDir = "data/audit-spill";
+
+    @Min(1)
+    private long spillReplayIntervalMs = 30_000;
+
+    // 일시적이지 않은 오류로 이만큼 실패한 스필 파일은 quarantine 디렉터리로 옮긴다.
+    @Min(1)
+    private int spillMaxReplayAttempts = 5;
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public String getSpillDir() {
+        return spillDir;
+    }
+
+    public void setSpillDir(String spillDir) {
+        this.spillDir = spillDir;
+    }
+
+    public long getSpillReplayIntervalMs() {
+        return spillReplayIntervalMs;
+    }
+
+    public void setSpillReplayIntervalMs(long spillReplayIntervalMs) {
+        this.spillReplayIntervalMs = spillReplayIntervalMs;
+    }
+
+    public int getSpillMaxReplayAttempts() {
+        return spillMaxReplayAttempts;
+    }
+
+    public void setSpillMaxReplayAttempts(int spillMaxReplayAttempts) {
+        this.spillMaxReplayAttempts = spillMaxReplayAttempts;
+    }
+}
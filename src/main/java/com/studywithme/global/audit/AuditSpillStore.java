@@ -0,0 +1,92 @@
+package com.studywithme.global.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// DB 에 쓰지 못한 감사 이벤트를 배치 단위 NDJSON 파일로 남긴다. fsync 후에야 반환하므로 프로세스가 죽어도 남는다.
+// 파일 이름이 생성 순서라 재적재도 같은 순서로 한다.
+public class AuditSpillStore {
+    private static final String SUFFIX = ".ndjson";
+    private static final String QUARANTINE_DIR = "quarantine";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public AuditSpillStore(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("cannot create audit spill directory " + directory, ex);
+        }
+    }
+
+    public void append(List<AuditEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder(events.size() * 256);
+        for (AuditEvent event : events) {
+            lines.append(toJson(event)).append('\n');
+        }
+        String name = String.format("audit-%013d-%06d", System.currentTimeMillis(), sequence.incrementAndGet() % 1_000_000);
+        Path temp = directory.resolve(name + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        // 반쯤 쓰인 파일을 재적재하지 않도록 다 쓴 뒤에 이름을 바꾼다.
+        Files.move(temp, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public List<Path> pendingFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    public List<AuditEvent> read(Path file) throws IOException {
+        List<AuditEvent> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    events.add(objectMapper.readValue(line, AuditEvent.class));
+                }
+            }
+        }
+        return events;
+    }
+
+    public void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // 재적재할 수 없는 파일은 지우지 않고 옆 디렉터리로 옮겨 사람이 확인하게 한다.
+    public Path quarantine(Path file) throws IOException {
+        Path quarantineDir = Files.createDirectories(directory.resolve(QUARANTINE_DIR));
+        return Files.move(file, quarantineDir.resolve(file.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String toJson(AuditEvent event) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+}
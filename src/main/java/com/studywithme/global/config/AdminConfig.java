@@ -0,0 +1,14 @@
+package com.studywithme.global.config;
+
+import com.studywithme.admin.importer.ImportProperties;
+import com.studywithme.admin.service.AdminExportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        ImportProperties.class,
+        AdminExportProperties.class
+})
+public class AdminConfig {
+}
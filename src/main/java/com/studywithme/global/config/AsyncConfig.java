@@ -0,0 +1,19 @@
+package com.studywithme.global.config;
+
+import com.studywithme.global.logging.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// 실행기는 Boot 자동 구성을 그대로 쓴다. virtual 프로필에서는 가상 스레드 실행기로 바뀐다.
+// TaskDecorator 빈은 applicationTaskExecutor 와 taskScheduler 에 함께 적용된다.
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
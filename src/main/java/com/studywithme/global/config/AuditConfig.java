@@ -0,0 +1,32 @@
+package com.studywithme.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studywithme.global.audit.AuditEventWriter;
+import com.studywithme.global.audit.AuditProperties;
+import com.studywithme.global.audit.AuditSpillStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    @Bean
+    public AuditSpillStore auditSpillStore(AuditProperties properties, ObjectMapper objectMapper) {
+        return new AuditSpillStore(Path.of(properties.getSpillDir()), objectMapper);
+    }
+
+    @Bean
+    public AuditEventWriter auditEventWriter(
+            JdbcTemplate jdbcTemplate,
+            AuditSpillStore auditSpillStore,
+            AuditProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new AuditEventWriter(jdbcTemplate, auditSpillStore, properties, meterRegistry);
+    }
+}
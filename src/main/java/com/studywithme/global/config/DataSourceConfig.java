@@ -0,0 +1,87 @@
+package com.studywithme.global.config;
+
+import com.studywithme.global.datasource.DataSourceRoutingProperties;
+import com.studywithme.global.datasource.ReplicaLagMonitor;
+import com.studywithme.global.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+// datasource.routing.enabled=true 일 때만 primary/replica 두 풀을 만든다. 꺼져 있으면 Boot 기본 DataSource 를 쓴다.
+// 두 풀 모두 HikariDataSource 빈이라 hikaricp.* 지표가 pool 태그(primary, replica)별로 잡힌다.
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.routing.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceRoutingProperties properties,
+            DataSourceProperties dataSourceProperties
+    ) {
+        DataSourceRoutingProperties.Replica replica = properties.getReplica();
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException("datasource.routing.replica.url is required when routing is enabled.");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(dataSourceProperties.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            DataSourceRoutingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            DataSourceRoutingProperties properties,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                properties,
+                replicaLagMonitor::isReplicaAvailable,
+                meterRegistry
+        );
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
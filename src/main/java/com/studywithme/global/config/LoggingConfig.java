@@ -0,0 +1,10 @@
+package com.studywithme.global.config;
+
+import com.studywithme.global.logging.AccessLogProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+public class LoggingConfig {
+}
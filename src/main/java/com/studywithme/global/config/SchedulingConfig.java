@@ -0,0 +1,35 @@
+package com.studywithme.global.config;
+
+import com.studywithme.global.maintenance.PurgeProperties;
+import java.util.Map;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PurgeProperties.class)
+public class SchedulingConfig {
+
+    // @Scheduled 메서드는 빈이 만들어질 때 등록되므로, lazy-initialization 에서도 이런 빈은 기동 시 만든다.
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeanLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (!AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        Map<?, ?> methods = MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class));
+        return !methods.isEmpty();
+    }
+}
@@ -0,0 +1,14 @@
+package com.studywithme.global.config;
+
+import com.studywithme.global.startup.StartupReportProperties;
+import com.studywithme.global.startup.StartupWarmUpProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        StartupReportProperties.class,
+        StartupWarmUpProperties.class
+})
+public class StartupConfig {
+}
@@ -0,0 +1,16 @@
+package com.studywithme.global.config;
+
+import com.studywithme.study.schedule.StudyRecruitmentProperties;
+import com.studywithme.study.search.StudyTextIndexProperties;
+import com.studywithme.study.service.CapacityReservationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({
+        CapacityReservationProperties.class,
+        StudyTextIndexProperties.class,
+        StudyRecruitmentProperties.class
+})
+public class StudyConfig {
+}
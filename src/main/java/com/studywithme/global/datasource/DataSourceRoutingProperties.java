@@ -0,0 +1,114 @@
+package com.studywithme.global.datasource;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private final Replica replica = new Replica();
+
+    // 쓰기 트랜잭션을 커밋한 회원의 읽기는 이 시간 동안 primary 로 보낸다. 평소 복제 지연보다 넉넉히 잡는다.
+    @Min(0)
+    private long readYourWritesMillis = 2_000;
+
+    @Min(1)
+    private long readYourWritesMaximumSize = 100_000;
+
+    // replica 계정에 REPLICATION CLIENT 권한이 있어야 한다. 끄면 지연과 관계없이 replica 로 읽는다.
+    private boolean lagCheckEnabled = true;
+
+    @Min(100)
+    private long lagCheckIntervalMs = 5_000;
+
+    // 복제 지연이 이 값을 넘으면 모든 읽기를 primary 로 돌린다.
+    @Min(0)
+    private long maxLagSeconds = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Replica getReplica() {
+        return replica;
+    }
+
+    public long getReadYourWritesMillis() {
+        return readYourWritesMillis;
+    }
+
+    public void setReadYourWritesMillis(long readYourWritesMillis) {
+        this.readYourWritesMillis = readYourWritesMillis;
+    }
+
+    public long getReadYourWritesMaximumSize() {
+        return readYourWritesMaximumSize;
+    }
+
+    public void setReadYourWritesMaximumSize(long readYourWritesMaximumSize) {
+        this.readYourWritesMaximumSize = readYourWritesMaximumSize;
+    }
+
+    public boolean isLagCheckEnabled() {
+        return lagCheckEnabled;
+    }
+
+    public void setLagCheckEnabled(boolean lagCheckEnabled) {
+        this.lagCheckEnabled = lagCheckEnabled;
+    }
+
+    public long getLagCheckIntervalMs() {
+        return lagCheckIntervalMs;
+    }
+
+    public void setLagCheckIntervalMs(long lagCheckIntervalMs) {
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+    }
+
+    public long getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public void setMaxLagSeconds(long maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    // 풀 설정은 datasource.routing.replica.hikari.* 로 따로 바인딩한다.
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
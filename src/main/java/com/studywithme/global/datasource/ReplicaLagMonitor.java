@@ -0,0 +1,94 @@
+package com.studywithme.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.PermissionDeniedDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// replica 의 SHOW REPLICA STATUS 를 주기적으로 읽어 지연이 크거나 복제가 멈췄으면 읽기를 primary 로 돌린다.
+// 복제 상태 행이 없으면(관리형 DB, 테스트용 스키마) 지연 없음으로 본다.
+// replica 계정에 REPLICATION CLIENT 권한이 필요하다: GRANT REPLICATION CLIENT ON *.* TO '<replica user>'@'%';
+// 권한이 없으면 지연을 알 수 없으므로 읽기는 계속 primary 로 가고, 원인은 ERROR 로 한 번만 남긴다.
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final long UNKNOWN_LAG = -1;
+    // ER_SPECIFIC_ACCESS_DENIED_ERROR, ER_DBACCESS_DENIED_ERROR
+    private static final Set<Integer> ACCESS_DENIED_ERRORS = Set.of(1227, 1044);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final DataSourceRoutingProperties properties;
+    private volatile boolean available = true;
+    private volatile long lagSeconds;
+    private boolean failing;
+    private boolean privilegeErrorLogged;
+
+    public ReplicaLagMonitor(DataSource replica, DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.properties = properties;
+        Gauge.builder("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds).register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        if (!properties.isLagCheckEnabled()) {
+            return;
+        }
+        long lag;
+        try {
+            List<Long> rows = replicaJdbcTemplate.query("SHOW REPLICA STATUS", (rs, rowNum) -> {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? UNKNOWN_LAG : seconds;
+            });
+            lag = rows.isEmpty() ? 0 : rows.get(0);
+            failing = false;
+        } catch (RuntimeException ex) {
+            logFailure(ex);
+            lag = UNKNOWN_LAG;
+        }
+        boolean nowAvailable = lag != UNKNOWN_LAG && lag <= properties.getMaxLagSeconds();
+        if (nowAvailable != available) {
+            log.warn("replicaAvailabilityChanged available={}, lagSeconds={}", nowAvailable, lag);
+        }
+        lagSeconds = lag;
+        available = nowAvailable;
+    }
+
+    // 매 주기 같은 실패를 WARN 으로 쌓지 않는다. 권한 오류는 설정을 고치기 전까지 풀리지 않으므로 한 번만 ERROR 로 남긴다.
+    private void logFailure(RuntimeException ex) {
+        if (isAccessDenied(ex)) {
+            if (!privilegeErrorLogged) {
+                privilegeErrorLogged = true;
+                log.error("replicaLagCheckAccessDenied: grant REPLICATION CLIENT to the replica user;"
+                        + " reads stay on primary until then. message={}", ex.getMessage());
+            }
+            return;
+        }
+        if (!failing) {
+            log.warn("replicaLagCheckFailed message={}", ex.getMessage());
+        } else {
+            log.debug("replicaLagCheckFailed message={}", ex.getMessage());
+        }
+        failing = true;
+    }
+
+    private static boolean isAccessDenied(RuntimeException ex) {
+        if (ex instanceof PermissionDeniedDataAccessException) {
+            return true;
+        }
+        return NestedExceptionUtils.getMostSpecificCause(ex) instanceof SQLException sqlException
+                && ACCESS_DENIED_ERRORS.contains(sqlException.getErrorCode());
+    }
+}
@@ -0,0 +1,106 @@
+package com.studywithme.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studywithme.global.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보낸다.
+// LazyConnectionDataSourceProxy 뒤에 두어 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리에서 커넥션을 고르게 한다.
+// 방금 쓰기를 커밋한 회원의 읽기와 복제 지연이 큰 동안의 읽기는 primary 로 보낸다.
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String ROUTING_METRIC = "datasource.routing";
+    private static final Object WRITE_TRACKED = new Object();
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final Cache<Long, Boolean> recentWriters;
+    private final BooleanSupplier replicaAvailable;
+    private final Counter writeCounter;
+    private final Counter replicaCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter lagFallbackCounter;
+
+    public ReplicationRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            DataSourceRoutingProperties properties,
+            BooleanSupplier replicaAvailable,
+            MeterRegistry meterRegistry
+    ) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(properties.getReadYourWritesMillis()))
+                .maximumSize(properties.getReadYourWritesMaximumSize())
+                .build();
+        this.replicaAvailable = replicaAvailable;
+        this.writeCounter = counter(meterRegistry, Target.PRIMARY, "write");
+        this.replicaCounter = counter(meterRegistry, Target.REPLICA, "read");
+        this.readYourWritesCounter = counter(meterRegistry, Target.PRIMARY, "read_your_writes");
+        this.lagFallbackCounter = counter(meterRegistry, Target.PRIMARY, "replica_lag");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            writeCounter.increment();
+            return Target.PRIMARY;
+        }
+        Long memberId = SecurityUtils.currentMemberIdOrNull();
+        if (memberId != null && recentWriters.getIfPresent(memberId) != null) {
+            readYourWritesCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (!replicaAvailable.getAsBoolean()) {
+            lagFallbackCounter.increment();
+            return Target.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Target.REPLICA;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 그 회원을 잠시 primary 에 묶는다. 트랜잭션당 한 번만 등록한다.
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+        Long memberId = SecurityUtils.currentMemberIdOrNull();
+        if (memberId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(memberId, Boolean.TRUE);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder(ROUTING_METRIC)
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
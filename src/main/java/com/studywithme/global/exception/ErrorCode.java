@@ -16,13 +16,19 @@ public enum ErrorCode {
     REVIEW_DUPLICATED("REVIEW_DUPLICATED", HttpStatus.CONFLICT, "이미 리뷰를 작성했습니다.", false),
     AUTH_INVALID_CREDENTIALS("AUTH_INVALID_CREDENTIALS", HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다.", false),
     AUTH_LOGIN_BLOCKED("AUTH_LOGIN_BLOCKED", HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 많아 잠시 후 다시 시도해 주세요.", true),
+    AUTH_LOGIN_THROTTLED("AUTH_LOGIN_THROTTLED", HttpStatus.TOO_MANY_REQUESTS, "로그인 요청이 많아 잠시 후 다시 시도해 주세요.", true),
     AUTH_TOKEN_EXPIRED("AUTH_TOKEN_EXPIRED", HttpStatus.UNAUTHORIZED, "토큰이 만료되었습니다.", true),
     AUTH_UNAUTHORIZED("AUTH_UNAUTHORIZED", HttpStatus.UNAUTHORIZED, "인증이 필요합니다.", true),
     AUTH_FORBIDDEN("AUTH_FORBIDDEN", HttpStatus.FORBIDDEN, "접근 권한이 없습니다.", false),
     MEMBER_EMAIL_DUPLICATED("MEMBER_EMAIL_DUPLICATED", HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다.", false),
     MEMBER_NOT_FOUND("MEMBER_NOT_FOUND", HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다.", false),
     ADMIN_ACTION_NOT_ALLOWED("ADMIN_ACTION_NOT_ALLOWED", HttpStatus.FORBIDDEN, "관리자 작업을 수행할 수 없습니다.", false),
+    ADMIN_IMPORT_NOT_FOUND("ADMIN_IMPORT_NOT_FOUND", HttpStatus.NOT_FOUND, "가져오기 작업을 찾을 수 없습니다.", false),
+    ADMIN_IMPORT_TOO_LARGE("ADMIN_IMPORT_TOO_LARGE", HttpStatus.PAYLOAD_TOO_LARGE, "가져오기 파일이 너무 큽니다.", false),
     COMMON_INVALID_REQUEST("COMMON_INVALID_REQUEST", HttpStatus.BAD_REQUEST, "요청 값이 올바르지 않습니다.", false),
+    IDEMPOTENCY_KEY_REUSED("IDEMPOTENCY_KEY_REUSED", HttpStatus.UNPROCESSABLE_ENTITY, "다른 요청에 이미 사용된 Idempotency-Key 입니다.", false),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("IDEMPOTENCY_REQUEST_IN_PROGRESS", HttpStatus.CONFLICT, "같은 요청을 처리 중입니다.", true),
+    COMMON_SERVICE_BUSY("COMMON_SERVICE_BUSY", HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해 주세요.", true),
     INTERNAL_ERROR("INTERNAL_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다.", true);
 
     private final String code;
@@ -0,0 +1,9 @@
+package com.studywithme.global.export;
+
+import java.util.function.Function;
+
+public record ExportColumn<T>(
+        String name,
+        Function<T, Object> value
+) {
+}
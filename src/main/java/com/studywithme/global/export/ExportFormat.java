@@ -0,0 +1,37 @@
+package com.studywithme.global.export;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import java.util.Locale;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv; charset=UTF-8", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        if (value == null) {
+            throw new ApiException(ErrorCode.COMMON_INVALID_REQUEST);
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(ErrorCode.COMMON_INVALID_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.studywithme.global.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 행을 하나씩 받아 바로 출력 스트림에 쓴다. 메모리에 남는 것은 쓰기 버퍼뿐이다.
+// 느린 클라이언트는 소켓 쓰기가 막히면서 다음 행 읽기도 멈추므로 따로 큐를 두지 않는다.
+// 같은 열 정의로 NDJSON 과 CSV 를 만든다.
+public final class StreamingExportWriter<T> implements AutoCloseable {
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ExportFormat format;
+    private final List<ExportColumn<T>> columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private final int flushEveryRows;
+    private long rows;
+
+    public StreamingExportWriter(
+            ExportFormat format,
+            List<ExportColumn<T>> columns,
+            ObjectMapper objectMapper,
+            OutputStream outputStream,
+            int flushEveryRows
+    ) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.flushEveryRows = flushEveryRows;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.NDJSON) {
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        } else {
+            this.generator = null;
+            writeCsvHeader();
+        }
+    }
+
+    public void write(T row) throws IOException {
+        if (generator != null) {
+            writeJson(row);
+        } else {
+            writeCsv(row);
+        }
+        rows++;
+        // 클라이언트가 진행 상황을 볼 수 있도록 주기적으로 내보낸다.
+        if (rows % flushEveryRows == 0) {
+            flush();
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeJson(T row) throws IOException {
+        generator.writeStartObject();
+        for (ExportColumn<T> column : columns) {
+            generator.writeFieldName(column.name());
+            generator.writeObject(column.value().apply(row));
+        }
+        generator.writeEndObject();
+        // generator 버퍼를 writer 로 넘긴 뒤 줄바꿈을 쓴다.
+        generator.flush();
+        writer.write('\n');
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(columns.get(i).name());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsv(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).value().apply(row);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof CharSequence text) {
+                writeCsvValue(neutralizeFormula(text.toString()));
+            } else {
+                writeCsvValue(value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 사용자가 입력한 문자열이 스프레드시트에서 수식으로 실행되지 않게 한다.
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.studywithme.global.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// 요청 해시를 먼저 계산해야 하므로 본문을 한 번 읽어 두고 컨트롤러에는 같은 바이트를 다시 내준다.
+class CachedBodyRequestWrapper extends HttpServletRequestWrapper {
+    private final byte[] body;
+    private final InputStream remainder;
+
+    CachedBodyRequestWrapper(HttpServletRequest request, byte[] body) {
+        this(request, body, null);
+    }
+
+    // 한도를 넘어 앞부분만 읽은 요청은 읽은 바이트 뒤에 남은 원본 스트림을 이어 붙인다.
+    CachedBodyRequestWrapper(HttpServletRequest request, byte[] body, InputStream remainder) {
+        super(request);
+        this.body = body;
+        this.remainder = remainder;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        InputStream input = remainder == null
+                ? new ByteArrayInputStream(body)
+                : new SequenceInputStream(new ByteArrayInputStream(body), remainder);
+        return new ServletInputStream() {
+            private boolean finished;
+
+            @Override
+            public boolean isFinished() {
+                return finished;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() throws IOException {
+                int value = input.read();
+                finished = value == -1;
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = input.read(buffer, offset, length);
+                finished = count == -1;
+                return count;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public int getContentLength() {
+        return remainder == null ? body.length : super.getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return remainder == null ? body.length : super.getContentLengthLong();
+    }
+}
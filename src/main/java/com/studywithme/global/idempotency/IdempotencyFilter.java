@@ -0,0 +1,284 @@
+package com.studywithme.global.idempotency;
+
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.global.response.ErrorResponseWriter;
+import com.studywithme.global.security.SecurityUtils;
+import com.studywithme.global.util.HashingUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+// Idempotency-Key 가 붙은 인증된 POST 를 한 번만 실행하고, 같은 키의 재시도에는 저장된 응답을 돌려준다.
+// 같은 노드의 동시 중복은 in-flight future 로 합치고, 노드 간 중복은 IdempotencyStore 의 선점 행으로 막는다.
+public class IdempotencyFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final int MAX_ENDPOINT_LENGTH = 100;
+    private static final String METRIC = "idempotency.requests";
+    // 다시 실행하면 결과가 달라질 수 있는 응답은 저장하지 않는다.
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(401, 408, 409, 423, 429);
+    // 재생할 때마다 새로 정해지거나 연결에 속한 헤더는 저장하지 않는다.
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            "x-trace-id", "date", "content-length", "transfer-encoding", "connection", "keep-alive", "set-cookie",
+            REPLAYED_HEADER.toLowerCase(Locale.ROOT));
+    private static final List<String> RESULTS =
+            List.of("executed", "replayed", "collapsed", "in_progress", "mismatch", "oversized", "lease_lost");
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final Map<String, Counter> counters;
+    private final Map<IdempotencyScope, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            IdempotencyProperties properties,
+            ErrorResponseWriter errorResponseWriter,
+            MeterRegistry meterRegistry
+    ) {
+        this.store = store;
+        this.properties = properties;
+        this.errorResponseWriter = errorResponseWriter;
+        this.counters = RESULTS.stream().collect(Collectors.toUnmodifiableMap(
+                Function.identity(),
+                result -> Counter.builder(METRIC).tag("result", result).register(meterRegistry)
+        ));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Long memberId = SecurityUtils.currentMemberIdOrNull();
+        if (memberId == null || request.getContentLengthLong() > properties.getMaxRequestBytes()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.COMMON_INVALID_REQUEST);
+            return;
+        }
+
+        // chunked 요청은 Content-Length 가 -1 이므로 한도 + 1 바이트까지만 읽어 보고, 넘치면 저장 없이 통과시킨다.
+        ServletInputStream input = request.getInputStream();
+        byte[] head = input.readNBytes(properties.getMaxRequestBytes() + 1);
+        if (head.length > properties.getMaxRequestBytes()) {
+            record("oversized");
+            filterChain.doFilter(new CachedBodyRequestWrapper(request, head, input), response);
+            return;
+        }
+        CachedBodyRequestWrapper wrappedRequest = new CachedBodyRequestWrapper(request, head);
+        IdempotencyScope scope = new IdempotencyScope(memberId, endpoint(request), key);
+        String requestHash = requestHash(wrappedRequest);
+
+        StoredResponse cached = store.findCached(scope).orElse(null);
+        if (cached != null) {
+            record("replayed");
+            replay(response, cached, requestHash);
+            return;
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> leader = inFlight.putIfAbsent(scope, mine);
+        if (leader != null) {
+            record("collapsed");
+            awaitLeader(response, leader, requestHash);
+            return;
+        }
+        try {
+            execute(wrappedRequest, response, filterChain, scope, requestHash, mine);
+        } finally {
+            // 결과를 못 만들었으면 기다리던 요청은 IN_PROGRESS 로 돌려보낸다.
+            mine.complete(null);
+            inFlight.remove(scope, mine);
+        }
+    }
+
+    private void execute(
+            CachedBodyRequestWrapper request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            IdempotencyScope scope,
+            String requestHash,
+            CompletableFuture<StoredResponse> mine
+    ) throws ServletException, IOException {
+        IdempotencyStore.Claim claim = store.claim(scope, requestHash);
+        if (claim.isInProgress()) {
+            record("in_progress");
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        }
+        if (!claim.isClaimed()) {
+            record("replayed");
+            mine.complete(claim.existing());
+            replay(response, claim.existing(), requestHash);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrappedResponse);
+            StoredResponse result = toStoredResponse(wrappedResponse, requestHash);
+            if (result != null) {
+                if (store.complete(claim.id(), scope, result)) {
+                    mine.complete(result);
+                } else {
+                    // 실행 중 lease 가 끝나 다른 노드가 같은 키를 다시 선점했다. 이 결과는 저장되지 않으므로 남긴다.
+                    record("lease_lost");
+                    log.warn("idempotencyCompleteLost id={}, endpoint={}", claim.id(), scope.endpoint());
+                }
+                stored = true;
+            }
+            record("executed");
+        } finally {
+            if (!stored) {
+                abandonQuietly(claim.id());
+            }
+            wrappedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void awaitLeader(
+            HttpServletResponse response,
+            CompletableFuture<StoredResponse> leader,
+            String requestHash
+    ) throws IOException {
+        StoredResponse result = null;
+        try {
+            result = leader.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            // 결과 없음으로 처리한다.
+        }
+        if (result == null) {
+            writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            return;
+        }
+        replay(response, result, requestHash);
+    }
+
+    private StoredResponse toStoredResponse(ContentCachingResponseWrapper response, String requestHash) {
+        int status = response.getStatus();
+        if (status >= 500 || RETRYABLE_STATUSES.contains(status)) {
+            return null;
+        }
+        String contentType = response.getContentType();
+        if (contentType != null && !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return null;
+        }
+        byte[] body = response.getContentAsByteArray();
+        if (body.length > properties.getMaxResponseBytes()) {
+            return null;
+        }
+        return new StoredResponse(requestHash, status, new String(body, StandardCharsets.UTF_8), headers(response));
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored, String requestHash) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            record("mismatch");
+            writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+        response.setStatus(stored.httpStatus());
+        // 앞 필터가 이미 쓴 보안 헤더 등과 겹치지 않도록 첫 값은 setHeader 로 덮어쓴다.
+        stored.headers().forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+        });
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (!stored.body().isEmpty()) {
+            if (response.getContentType() == null) {
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            }
+            response.setCharacterEncoding("UTF-8");
+            response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        errorResponseWriter.write(response, errorCode, MDC.get("traceId"));
+        log.warn("idempotency code={}", errorCode.getCode());
+    }
+
+    private void abandonQuietly(Long id) {
+        try {
+            store.abandon(id);
+        } catch (RuntimeException ex) {
+            // lease 가 끝나면 다시 선점할 수 있으므로 요청은 실패시키지 않는다.
+            log.warn("idempotencyAbandonFailed id={}, message={}", id, ex.getMessage());
+        }
+    }
+
+    private void record(String result) {
+        counters.get(result).increment();
+    }
+
+    private static Map<String, List<String>> headers(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!UNSTORED_HEADERS.contains(name.toLowerCase(Locale.ROOT)) && !headers.containsKey(name)) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        // Tomcat 은 Content-Type 을 getHeaderNames 에 넣지 않는다.
+        String contentType = response.getContentType();
+        if (contentType != null && headers.keySet().stream().noneMatch("Content-Type"::equalsIgnoreCase)) {
+            headers.put("Content-Type", List.of(contentType));
+        }
+        return headers;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        return endpoint.length() > MAX_ENDPOINT_LENGTH ? endpoint.substring(0, MAX_ENDPOINT_LENGTH) : endpoint;
+    }
+
+    private static String requestHash(CachedBodyRequestWrapper request) {
+        String query = request.getQueryString();
+        byte[] body = request.getBody();
+        if (query == null) {
+            return HashingUtil.toHex(HashingUtil.sha256(body));
+        }
+        byte[] queryBytes = (query + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] combined = new byte[queryBytes.length + body.length];
+        System.arraycopy(queryBytes, 0, combined, 0, queryBytes.length);
+        System.arraycopy(body, 0, combined, queryBytes.length, body.length);
+        return HashingUtil.toHex(HashingUtil.sha256(combined));
+    }
+}
@@ -0,0 +1,92 @@
+package com.studywithme.global.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+// http_status 가 0 인 행은 처리 중인 요청의 선점 표시다. expires_at 이 짧은 lease 로 잡힌다.
+@Entity
+@Table(name = "idempotency_key")
+public class IdempotencyKey {
+    static final int IN_PROGRESS_STATUS = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false, length = 100)
+    private String endpoint;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "response_headers", columnDefinition = "TEXT")
+    private String responseHeaders;
+
+    @Column(name = "http_status", nullable = false)
+    private int httpStatus;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    protected IdempotencyKey() {
+    }
+
+    private IdempotencyKey(IdempotencyScope scope, String requestHash, LocalDateTime expiresAt) {
+        this.memberId = scope.memberId();
+        this.endpoint = scope.endpoint();
+        this.idempotencyKey = scope.key();
+        this.requestHash = requestHash;
+        this.responseBody = "";
+        this.httpStatus = IN_PROGRESS_STATUS;
+        this.expiresAt = expiresAt;
+    }
+
+    public static IdempotencyKey inProgress(IdempotencyScope scope, String requestHash, LocalDateTime leaseUntil) {
+        return new IdempotencyKey(scope, requestHash, leaseUntil);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public String getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return httpStatus != IN_PROGRESS_STATUS;
+    }
+}
@@ -0,0 +1,40 @@
+package com.studywithme.global.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    Optional<IdempotencyKey> findByMemberIdAndEndpointAndIdempotencyKey(
+            Long memberId,
+            String endpoint,
+            String idempotencyKey
+    );
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyKey k set k.responseBody = :body, k.responseHeaders = :headers,"
+            + " k.httpStatus = :status, k.expiresAt = :expiresAt where k.id = :id")
+    int complete(
+            @Param("id") Long id,
+            @Param("body") String body,
+            @Param("headers") String headers,
+            @Param("status") int status,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.memberId = :memberId and k.endpoint = :endpoint"
+            + " and k.idempotencyKey = :key and k.expiresAt < :now")
+    int deleteExpired(
+            @Param("memberId") Long memberId,
+            @Param("endpoint") String endpoint,
+            @Param("key") String key,
+            @Param("now") LocalDateTime now
+    );
+}
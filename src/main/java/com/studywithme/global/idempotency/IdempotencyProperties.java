@@ -0,0 +1,93 @@
+package com.studywithme.global.idempotency;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    @Min(1)
+    private long ttlHours = 24;
+
+    // 처리 중 표시의 유효 시간. 이 시간이 지나면 노드가 죽었다고 보고 다시 선점할 수 있다.
+    @Min(1)
+    private long leaseSeconds = 30;
+
+    // 같은 노드에서 동시에 들어온 중복 요청이 선행 요청의 결과를 기다리는 시간
+    @Min(0)
+    private long waitTimeoutMs = 5_000;
+
+    @Min(1)
+    private long cacheTtlMinutes = 10;
+
+    @Min(1)
+    private long cacheMaximumWeightBytes = 16L * 1024 * 1024;
+
+    // response_body 가 TEXT 이므로 그보다 큰 응답은 저장하지 않는다.
+    @Min(1)
+    private int maxResponseBytes = 65_535;
+
+    // 한도 + 1 바이트까지 읽어 보므로 int 범위 안에 둔다.
+    @Min(1)
+    @Max(Integer.MAX_VALUE - 1)
+    private int maxRequestBytes = 1024 * 1024;
+
+    public long getTtlHours() {
+        return ttlHours;
+    }
+
+    public void setTtlHours(long ttlHours) {
+        this.ttlHours = ttlHours;
+    }
+
+    public long getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    public void setLeaseSeconds(long leaseSeconds) {
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    public long getWaitTimeoutMs() {
+        return waitTimeoutMs;
+    }
+
+    public void setWaitTimeoutMs(long waitTimeoutMs) {
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    public long getCacheTtlMinutes() {
+        return cacheTtlMinutes;
+    }
+
+    public void setCacheTtlMinutes(long cacheTtlMinutes) {
+        this.cacheTtlMinutes = cacheTtlMinutes;
+    }
+
+    public long getCacheMaximumWeightBytes() {
+        return cacheMaximumWeightBytes;
+    }
+
+    public void setCacheMaximumWeightBytes(long cacheMaximumWeightBytes) {
+        this.cacheMaximumWeightBytes = cacheMaximumWeightBytes;
+    }
+
+    public int getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    public void setMaxResponseBytes(int maxResponseBytes) {
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    public int getMaxRequestBytes() {
+        return maxRequestBytes;
+    }
+
+    public void setMaxRequestBytes(int maxRequestBytes) {
+        this.maxRequestBytes = maxRequestBytes;
+    }
+}
@@ -0,0 +1,9 @@
+package com.studywithme.global.idempotency;
+
+// uk_idempotency_key (member_id, endpoint, idempotency_key) 와 같은 범위
+public record IdempotencyScope(
+        Long memberId,
+        String endpoint,
+        String key
+) {
+}
@@ -0,0 +1,113 @@
+package com.studywithme.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+// 완료된 응답은 노드 메모리(바이트 상한)에서 먼저 찾고, 없으면 uk_idempotency_key 로 조회한다.
+// 노드 간 동시 중복은 처리 중 표시 행의 INSERT 가 unique 인덱스에서 한 건만 성공하는 것으로 막는다.
+@Component
+public class IdempotencyStore {
+    private static final String CACHE_NAME = "idempotency";
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+    private final Cache<IdempotencyScope, StoredResponse> cache;
+
+    public IdempotencyStore(
+            IdempotencyKeyRepository repository,
+            IdempotencyProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(properties.getCacheTtlMinutes()))
+                .maximumWeight(properties.getCacheMaximumWeightBytes())
+                .weigher((IdempotencyScope scope, StoredResponse response) ->
+                        ENTRY_OVERHEAD_BYTES + (response.body().length() + response.encodedHeaders().length()) * 2)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<StoredResponse> findCached(IdempotencyScope scope) {
+        return Optional.ofNullable(cache.getIfPresent(scope));
+    }
+
+    public Claim claim(IdempotencyScope scope, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                IdempotencyKey placeholder = repository.saveAndFlush(
+                        IdempotencyKey.inProgress(scope, requestHash, now.plusSeconds(properties.getLeaseSeconds())));
+                return Claim.claimed(placeholder.getId());
+            } catch (DataIntegrityViolationException ex) {
+                Optional<IdempotencyKey> existing = repository.findByMemberIdAndEndpointAndIdempotencyKey(
+                        scope.memberId(), scope.endpoint(), scope.key());
+                if (existing.isEmpty()) {
+                    continue;
+                }
+                IdempotencyKey row = existing.get();
+                if (row.getExpiresAt().isBefore(now)) {
+                    // 만료된 완료 응답이거나 죽은 노드가 남긴 lease 다. 지우고 한 번 더 선점한다.
+                    repository.deleteExpired(scope.memberId(), scope.endpoint(), scope.key(), now);
+                    continue;
+                }
+                if (!row.isCompleted()) {
+                    return Claim.inProgress();
+                }
+                StoredResponse stored = new StoredResponse(row.getRequestHash(), row.getHttpStatus(), row.getResponseBody(),
+                        StoredResponse.decodeHeaders(row.getResponseHeaders()));
+                cache.put(scope, stored);
+                return Claim.existing(stored);
+            }
+        }
+        return Claim.inProgress();
+    }
+
+    // 선점 행이 없으면(lease 가 끝나 다른 노드가 지우고 다시 선점했으면) 저장하지 않고 false 를 돌려준다.
+    public boolean complete(Long id, IdempotencyScope scope, StoredResponse response) {
+        int updated = repository.complete(id, response.body(), response.encodedHeaders(), response.httpStatus(),
+                LocalDateTime.now().plusHours(properties.getTtlHours()));
+        if (updated == 0) {
+            return false;
+        }
+        cache.put(scope, response);
+        return true;
+    }
+
+    // 저장하지 않을 결과(5xx, 재시도 가능한 오류 등)는 선점 행을 지워 클라이언트가 다시 시도할 수 있게 한다.
+    public void abandon(Long id) {
+        repository.deleteById(id);
+    }
+
+    public record Claim(Long id, StoredResponse existing) {
+        static Claim claimed(Long id) {
+            return new Claim(id, null);
+        }
+
+        static Claim existing(StoredResponse existing) {
+            return new Claim(null, existing);
+        }
+
+        static Claim inProgress() {
+            return new Claim(null, null);
+        }
+
+        public boolean isClaimed() {
+            return id != null;
+        }
+
+        public boolean isInProgress() {
+            return id == null && existing == null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.studywithme.global.idempotency;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// headers 는 재생할 응답 헤더. 저장 형식은 한 줄에 "이름:값" 하나다. (HTTP 헤더 값에는 줄바꿈이 없다)
+public record StoredResponse(
+        String requestHash,
+        int httpStatus,
+        String body,
+        Map<String, List<String>> headers
+) {
+
+    public String encodedHeaders() {
+        StringBuilder encoded = new StringBuilder();
+        headers.forEach((name, values) -> values.forEach(value ->
+                encoded.append(name).append(':').append(value).append('\n')));
+        return encoded.toString();
+    }
+
+    public static Map<String, List<String>> decodeHeaders(String encoded) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        if (encoded == null) {
+            return headers;
+        }
+        for (String line : encoded.split("\n")) {
+            int separator = line.indexOf(':');
+            if (separator > 0) {
+                headers.computeIfAbsent(line.substring(0, separator), name -> new ArrayList<>())
+                        .add(line.substring(separator + 1));
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,46 @@
+package com.studywithme.global.logging;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+// 요청 스레드의 MDC(traceId)를 작업 스레드로 옮기고, 작업이 끝나면 원래 값으로 되돌린다.
+// 가상 스레드든 플랫폼 풀 스레드든 MDC 는 스레드마다 따로이므로 넘겨줘야 한다.
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            apply(context);
+            try {
+                runnable.run();
+            } finally {
+                apply(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            apply(context);
+            try {
+                return callable.call();
+            } finally {
+                apply(previous);
+            }
+        };
+    }
+
+    private static void apply(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
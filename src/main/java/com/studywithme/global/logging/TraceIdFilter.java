@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -17,9 +18,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class TraceIdFilter extends OncePerRequestFilter {
-    private static final Logger log = LoggerFactory.getLogger(TraceIdFilter.class);
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
     private static final String TRACE_ID_HEADER = "X-Trace-Id";
 
+    private final AccessLogProperties accessLogProperties;
+
+    public TraceIdFilter(AccessLogProperties accessLogProperties) {
+        this.accessLogProperties = accessLogProperties;
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -30,21 +37,36 @@ public class TraceIdFilter extends OncePerRequestFilter {
         MDC.put("traceId", traceId);
         response.setHeader(TRACE_ID_HEADER, traceId);
 
-        long start = System.currentTimeMillis();
+        // 요청별 지연 분포는 actuator 의 http.server.requests 타이머(uri, status 태그)로 수집한다.
+        long start = System.nanoTime();
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long durationMs = System.currentTimeMillis() - start;
-            log.info("method={}, path={}, status={}, durationMs={}",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    response.getStatus(),
-                    durationMs
-            );
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            if (shouldLog(response.getStatus(), durationMs)) {
+                accessLog.info("method={}, path={}, status={}, durationMs={}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        durationMs
+                );
+            }
             MDC.remove("traceId");
         }
     }
 
+    // 오류와 느린 요청은 항상 남기고, 나머지는 sample-rate 비율만 남긴다.
+    private boolean shouldLog(int status, long durationMs) {
+        if (!accessLog.isInfoEnabled()) {
+            return false;
+        }
+        if (status >= 500 || durationMs >= accessLogProperties.getSlowThresholdMs()) {
+            return true;
+        }
+        double sampleRate = accessLogProperties.getSampleRate();
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
     private String resolveTraceId(HttpServletRequest request) {
         String existing = request.getHeader(TRACE_ID_HEADER);
         if (existing != null && !existing.isBlank()) {
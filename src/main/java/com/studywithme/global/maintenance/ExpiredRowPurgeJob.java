@@ -0,0 +1,124 @@
+package com.studywithme.global.maintenance;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 만료된 행을 인덱스 순서대로 chunk 단위 DELETE 로 지운다.
+// chunk 마다 auto-commit 되므로 InnoDB 락은 짧게 잡히고, chunk 사이에 쉬어 복제/다른 트랜잭션에 양보한다.
+// 모든 노드에서 스케줄되지만 MySQL named lock(GET_LOCK)을 잡은 노드 하나만 지운다.
+// named lock 은 커넥션에 묶이므로 한 번의 실행은 락을 잡은 커넥션 하나로 끝까지 돈다.
+@Component
+@ConditionalOnProperty(prefix = "maintenance.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ExpiredRowPurgeJob {
+    private static final Logger log = LoggerFactory.getLogger(ExpiredRowPurgeJob.class);
+
+    private static final String LOCK_NAME = "studywithme.expired_row_purge";
+    private static final String DELETE_BLACKLIST_SQL =
+            "DELETE FROM access_token_blacklist WHERE expires_at < ? ORDER BY expires_at LIMIT ?";
+    private static final String DELETE_IDEMPOTENCY_KEY_SQL =
+            "DELETE FROM idempotency_key WHERE expires_at < ? ORDER BY expires_at LIMIT ?";
+    private static final String DELETE_REFRESH_TOKEN_SQL =
+            "DELETE FROM refresh_token WHERE expires_at < ? ORDER BY expires_at LIMIT ?";
+    private static final String DELETE_LOGIN_ATTEMPT_SQL =
+            "DELETE FROM login_attempt WHERE updated_at < ? AND (blocked_until IS NULL OR blocked_until < ?)"
+                    + " ORDER BY updated_at LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PurgeProperties properties;
+    private final Map<String, Counter> purgedCounters;
+
+    public ExpiredRowPurgeJob(JdbcTemplate jdbcTemplate, PurgeProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.purgedCounters = List.of("access_token_blacklist", "idempotency_key", "refresh_token", "login_attempt")
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), table -> Counter.builder("maintenance.purge.rows")
+                        .tag("table", table)
+                        .register(meterRegistry)));
+    }
+
+    @Scheduled(
+            initialDelayString = "${maintenance.purge.initial-delay-ms:60000}",
+            fixedDelayString = "${maintenance.purge.interval-ms:600000}"
+    )
+    public void purge() {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            JdbcTemplate locked = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Integer acquired = locked.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+            if (acquired == null || acquired != 1) {
+                return false;
+            }
+            try {
+                purgeAll(locked);
+            } finally {
+                locked.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+            return true;
+        });
+        if (!Boolean.TRUE.equals(ran)) {
+            log.info("purgeSkipped reason=lockHeldByAnotherNode");
+        }
+    }
+
+    private void purgeAll(JdbcTemplate locked) {
+        LocalDateTime now = LocalDateTime.now();
+        purge(locked, "access_token_blacklist", DELETE_BLACKLIST_SQL, now);
+        purge(locked, "idempotency_key", DELETE_IDEMPOTENCY_KEY_SQL, now);
+        purge(locked, "refresh_token", DELETE_REFRESH_TOKEN_SQL, now);
+        purge(locked, "login_attempt", DELETE_LOGIN_ATTEMPT_SQL,
+                now.minusHours(properties.getLoginAttemptRetentionHours()), now);
+    }
+
+    private long purge(JdbcTemplate locked, String table, String sql, Object... conditions) {
+        Object[] args = Arrays.copyOf(conditions, conditions.length + 1);
+        args[conditions.length] = properties.getChunkSize();
+
+        long start = System.nanoTime();
+        long deleted = 0;
+        int chunks = 0;
+        try {
+            while (chunks < properties.getMaxChunksPerRun()) {
+                int affected = locked.update(sql, args);
+                deleted += affected;
+                chunks++;
+                if (affected < properties.getChunkSize() || !pause()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("purgeFailed table={}, deleted={}, message={}", table, deleted, ex.getMessage());
+        }
+
+        purgedCounters.get(table).increment(deleted);
+        log.info("purge table={}, deleted={}, chunks={}, durationMs={}",
+                table, deleted, chunks, (System.nanoTime() - start) / 1_000_000);
+        return deleted;
+    }
+
+    private boolean pause() {
+        if (properties.getPauseMs() == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
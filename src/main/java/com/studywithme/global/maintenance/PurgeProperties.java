@@ -0,0 +1,64 @@
+package com.studywithme.global.maintenance;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "maintenance.purge")
+public class PurgeProperties {
+
+    private boolean enabled = true;
+
+    @Min(1)
+    private int chunkSize = 1_000;
+
+    @Min(0)
+    private long pauseMs = 100;
+
+    @Min(1)
+    private int maxChunksPerRun = 100;
+
+    @Min(1)
+    private long loginAttemptRetentionHours = 24;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getPauseMs() {
+        return pauseMs;
+    }
+
+    public void setPauseMs(long pauseMs) {
+        this.pauseMs = pauseMs;
+    }
+
+    public int getMaxChunksPerRun() {
+        return maxChunksPerRun;
+    }
+
+    public void setMaxChunksPerRun(int maxChunksPerRun) {
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    public long getLoginAttemptRetentionHours() {
+        return loginAttemptRetentionHours;
+    }
+
+    public void setLoginAttemptRetentionHours(long loginAttemptRetentionHours) {
+        this.loginAttemptRetentionHours = loginAttemptRetentionHours;
+    }
+}
@@ -11,8 +11,11 @@ public record ApiResponse<T>(
         List<ErrorField> errors,
         String traceId
 ) {
+    static final String SUCCESS_CODE = "SUCCESS";
+    static final String SUCCESS_MESSAGE = "요청이 성공했습니다.";
+
     public static <T> ApiResponse<T> success(T data, String traceId) {
-        return new ApiResponse<>(true, "SUCCESS", "요청이 성공했습니다.", data, null, traceId);
+        return new ApiResponse<>(true, SUCCESS_CODE, SUCCESS_MESSAGE, data, null, traceId);
     }
 
     public static <T> ApiResponse<T> success(T data) {
@@ -0,0 +1,57 @@
+package com.studywithme.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import org.springframework.boot.jackson.JsonComponent;
+
+// 모든 성공 응답을 감싸는 봉투라 빈 직렬화(프로퍼티 탐색, 필터, 리플렉션 접근)를 거치지 않고 필드를 직접 쓴다.
+// 필드 이름과 성공 코드/메시지는 인코딩해 둔 SerializedString 을 재사용한다. data 와 errors 만 Jackson 에 맡긴다.
+// 필드 순서와 null 표기는 record 기본 직렬화와 같다.
+@JsonComponent
+public class ApiResponseJsonSerializer extends JsonSerializer<ApiResponse<?>> {
+    private static final SerializableString SUCCESS = new SerializedString("success");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString MESSAGE = new SerializedString("message");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString ERRORS = new SerializedString("errors");
+    private static final SerializableString TRACE_ID = new SerializedString("traceId");
+    private static final SerializableString SUCCESS_CODE = new SerializedString(ApiResponse.SUCCESS_CODE);
+    private static final SerializableString SUCCESS_MESSAGE = new SerializedString(ApiResponse.SUCCESS_MESSAGE);
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+        generator.writeFieldName(SUCCESS);
+        generator.writeBoolean(value.success());
+        generator.writeFieldName(CODE);
+        writeString(generator, value.code(), SUCCESS_CODE);
+        generator.writeFieldName(MESSAGE);
+        writeString(generator, value.message(), SUCCESS_MESSAGE);
+        generator.writeFieldName(DATA);
+        provider.defaultSerializeValue(value.data(), generator);
+        generator.writeFieldName(ERRORS);
+        provider.defaultSerializeValue(value.errors(), generator);
+        generator.writeFieldName(TRACE_ID);
+        if (value.traceId() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.traceId());
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, String value, SerializableString constant)
+            throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (constant.getValue().equals(value)) {
+            generator.writeString(constant);
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.studywithme.global.response;
+
+import java.util.List;
+
+// keyset 페이지 응답. total 은 요청한 경우 첫 페이지에서만 채운다.
+public record CursorPageResponse<T>(
+        List<T> items,
+        int size,
+        Long nextCursor,
+        boolean hasNext,
+        Long total
+) {
+}
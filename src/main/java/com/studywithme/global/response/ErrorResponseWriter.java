@@ -0,0 +1,118 @@
+package com.studywithme.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studywithme.global.exception.ErrorCode;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+// 필터 단계(인증 실패, 인가 실패, 멱등성 충돌)에서 쓰는 ErrorResponse 를 ErrorCode 별 바이트 템플릿으로 미리 만들어 둔다.
+// 크리덴셜 스터핑처럼 같은 401 이 대부분인 트래픽에서 요청마다 Jackson 직렬화를 하지 않고 traceId 만 끼워 쓴다.
+// 템플릿은 애플리케이션 ObjectMapper 로 만들므로 Jackson 경로와 바이트 단위로 같다.
+@Component
+public class ErrorResponseWriter {
+    private static final String TRACE_ID_MARKER = "__TRACE_ID_MARKER__";
+
+    private final ObjectMapper objectMapper;
+    private final Map<ErrorCode, Template> templates = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            templates.put(errorCode, Template.of(serialize(errorCode, TRACE_ID_MARKER)));
+        }
+    }
+
+    public void write(HttpServletResponse response, ErrorCode errorCode, String traceId) throws IOException {
+        byte[] body = toBytes(errorCode, traceId);
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(body);
+        outputStream.flush();
+    }
+
+    public byte[] toBytes(ErrorCode errorCode, String traceId) {
+        // traceId 는 클라이언트가 보낸 헤더일 수 있으므로, JSON 이스케이프가 필요한 값은 Jackson 으로 처리한다.
+        if (traceId == null || !isPlainAscii(traceId)) {
+            return serialize(errorCode, traceId);
+        }
+        return templates.get(errorCode).render(traceId);
+    }
+
+    private byte[] serialize(ErrorCode errorCode, String traceId) {
+        try {
+            return objectMapper.writeValueAsBytes(ErrorResponse.of(errorCode, traceId, null));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("error response serialization failed", ex);
+        }
+    }
+
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Template {
+        // prefix 는 여는 따옴표 앞까지, suffix 는 닫는 따옴표 뒤부터다.
+        private final byte[] prefix;
+        private final byte[] suffix;
+
+        private Template(byte[] prefix, byte[] suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        private static Template of(byte[] rendered) {
+            byte[] marker = ('"' + TRACE_ID_MARKER + '"').getBytes(StandardCharsets.US_ASCII);
+            int index = indexOf(rendered, marker);
+            if (index < 0) {
+                throw new IllegalStateException("traceId marker not found in error response template");
+            }
+            return new Template(
+                    Arrays.copyOfRange(rendered, 0, index),
+                    Arrays.copyOfRange(rendered, index + marker.length, rendered.length)
+            );
+        }
+
+        private byte[] render(String traceId) {
+            byte[] out = new byte[prefix.length + traceId.length() + 2 + suffix.length];
+            System.arraycopy(prefix, 0, out, 0, prefix.length);
+            int position = prefix.length;
+            out[position++] = '"';
+            for (int i = 0; i < traceId.length(); i++) {
+                out[position++] = (byte) traceId.charAt(i);
+            }
+            out[position++] = '"';
+            System.arraycopy(suffix, 0, out, position, suffix.length);
+            return out;
+        }
+
+        private static int indexOf(byte[] source, byte[] target) {
+            outer:
+            for (int i = 0; i <= source.length - target.length; i++) {
+                for (int j = 0; j < target.length; j++) {
+                    if (source[i + j] != target[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
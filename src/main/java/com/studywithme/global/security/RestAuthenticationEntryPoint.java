@@ -1,8 +1,7 @@
 package com.studywithme.global.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.studywithme.global.exception.ErrorCode;
-import com.studywithme.global.response.ErrorResponse;
+import com.studywithme.global.response.ErrorResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -10,7 +9,6 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -20,10 +18,10 @@ public class RestAuthenticationEntryPoint implements AuthenticationEntryPoint {
     private static final Logger log = LoggerFactory.getLogger(RestAuthenticationEntryPoint.class);
     private static final String TRACE_ID_HEADER = "X-Trace-Id";
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
-    public RestAuthenticationEntryPoint(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public RestAuthenticationEntryPoint(ErrorResponseWriter errorResponseWriter) {
+        this.errorResponseWriter = errorResponseWriter;
     }
 
     @Override
@@ -34,11 +32,8 @@ public class RestAuthenticationEntryPoint implements AuthenticationEntryPoint {
     ) throws IOException {
         ErrorCode errorCode = resolveErrorCode(request);
         String traceId = resolveTraceId();
-        response.setStatus(errorCode.getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
         response.setHeader(TRACE_ID_HEADER, traceId);
-        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(errorCode, traceId, null));
+        errorResponseWriter.write(response, errorCode, traceId);
         log.warn("authenticationEntryPoint message={}", authException.getMessage());
     }
 
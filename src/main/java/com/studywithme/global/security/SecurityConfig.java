@@ -1,24 +1,47 @@
 package com.studywithme.global.security;
 
-import com.studywithme.global.security.jwt.AccessTokenBlacklistRepository;
+import com.studywithme.global.idempotency.IdempotencyFilter;
+import com.studywithme.global.idempotency.IdempotencyProperties;
+import com.studywithme.global.idempotency.IdempotencyStore;
+import com.studywithme.global.response.ErrorResponseWriter;
+import com.studywithme.global.security.jwt.AccessTokenBlacklistCache;
 import com.studywithme.global.security.jwt.JwtAuthenticationFilter;
 import com.studywithme.global.security.jwt.JwtProperties;
-import com.studywithme.global.security.jwt.JwtTokenProvider;
-import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.global.security.jwt.TokenBlacklistProperties;
+import com.studywithme.global.security.jwt.VerifiedAccessTokenCache;
+import com.studywithme.global.security.jwt.VerifiedTokenCacheProperties;
+import com.studywithme.global.security.password.PasswordHasher;
+import com.studywithme.global.security.password.PasswordHashingProperties;
+import com.studywithme.member.service.EmailExistenceFilterProperties;
+import com.studywithme.member.service.LoginAttemptProperties;
+import com.studywithme.member.service.MemberStatusCache;
+import com.studywithme.member.service.MemberStatusCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        TokenBlacklistProperties.class,
+        VerifiedTokenCacheProperties.class,
+        PasswordHashingProperties.class,
+        MemberStatusCacheProperties.class,
+        IdempotencyProperties.class,
+        LoginAttemptProperties.class,
+        EmailExistenceFilterProperties.class
+})
 public class SecurityConfig {
     private static final String[] PUBLIC_ENDPOINTS = {
             "/auth/signup",
@@ -30,24 +53,41 @@ public class SecurityConfig {
             "/health"
     };
 
+    private static final String[] PUBLIC_READ_ENDPOINTS = {
+            "/studies",
+            "/studies/search"
+    };
+
     private final RestAuthenticationEntryPoint restAuthenticationEntryPoint;
     private final RestAccessDeniedHandler restAccessDeniedHandler;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
-    private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
+    private final MemberStatusCache memberStatusCache;
+    private final AccessTokenBlacklistCache accessTokenBlacklistCache;
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
 
     public SecurityConfig(
             RestAuthenticationEntryPoint restAuthenticationEntryPoint,
             RestAccessDeniedHandler restAccessDeniedHandler,
-            JwtTokenProvider jwtTokenProvider,
-            MemberRepository memberRepository,
-            AccessTokenBlacklistRepository accessTokenBlacklistRepository
+            VerifiedAccessTokenCache verifiedAccessTokenCache,
+            MemberStatusCache memberStatusCache,
+            AccessTokenBlacklistCache accessTokenBlacklistCache,
+            IdempotencyStore idempotencyStore,
+            IdempotencyProperties idempotencyProperties,
+            ErrorResponseWriter errorResponseWriter,
+            MeterRegistry meterRegistry
     ) {
         this.restAuthenticationEntryPoint = restAuthenticationEntryPoint;
         this.restAccessDeniedHandler = restAccessDeniedHandler;
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.memberRepository = memberRepository;
-        this.accessTokenBlacklistRepository = accessTokenBlacklistRepository;
+        this.verifiedAccessTokenCache = verifiedAccessTokenCache;
+        this.memberStatusCache = memberStatusCache;
+        this.accessTokenBlacklistCache = accessTokenBlacklistCache;
+        this.idempotencyStore = idempotencyStore;
+        this.idempotencyProperties = idempotencyProperties;
+        this.errorResponseWriter = errorResponseWriter;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -57,6 +97,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(HttpMethod.GET, PUBLIC_READ_ENDPOINTS).permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
@@ -65,15 +108,25 @@ public class SecurityConfig {
                 );
 
         http.addFilterBefore(
-                new JwtAuthenticationFilter(jwtTokenProvider, memberRepository, accessTokenBlacklistRepository),
+                new JwtAuthenticationFilter(
+                        verifiedAccessTokenCache,
+                        memberStatusCache,
+                        accessTokenBlacklistCache,
+                        meterRegistry
+                ),
                 UsernamePasswordAuthenticationFilter.class
         );
+        // 인가를 통과한 요청만 선점/저장하도록 인가 필터 뒤에 둔다.
+        http.addFilterAfter(
+                new IdempotencyFilter(idempotencyStore, idempotencyProperties, errorResponseWriter, meterRegistry),
+                AuthorizationFilter.class
+        );
 
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHasher passwordHasher) {
+        return passwordHasher.passwordEncoder();
     }
 }
@@ -17,4 +17,12 @@ public final class SecurityUtils {
         }
         return principal.memberId();
     }
+
+    public static Long currentMemberIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.memberId();
+        }
+        return null;
+    }
 }
@@ -35,4 +35,8 @@ public class AccessTokenBlacklist {
     public LocalDateTime getExpiresAt() {
         return expiresAt;
     }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
 }
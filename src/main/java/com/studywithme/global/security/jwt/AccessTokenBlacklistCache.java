@@ -0,0 +1,149 @@
+package com.studywithme.global.security.jwt;
+
+import com.studywithme.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 블랙리스트 테이블의 로컬 복제본. 만료 시각 구간별 Bloom filter 세대로 나누어 두고,
+// 구간이 지나면 세대를 통째로 버린다. "폐기되지 않음"은 DB 조회 없이 메모리에서 판정하고,
+// 필터가 양성일 때만 repository 로 확인한다.
+// 이 노드에서 폐기한 토큰은 add 로 바로 반영되지만, 다른 노드에서 폐기된 토큰은 다음 sync 전까지(sync-interval-ms
+// + 복제 지연, 기본 약 5초) 이 노드에서 통과할 수 있다. 액세스 토큰 수명이 짧아 이 구간은 허용한다.
+@Component
+public class AccessTokenBlacklistCache {
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenBlacklistCache.class);
+    private static final String LOOKUP_METRIC = "auth.token.blacklist.lookups";
+
+    private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
+    private final TokenBlacklistProperties properties;
+    private final ConcurrentSkipListMap<Long, BloomFilter> generations = new ConcurrentSkipListMap<>();
+    private final Counter filteredCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+    private final Counter fallbackCounter;
+    // synchronized 는 JDBC 대기 중 가상 스레드의 carrier 를 붙잡으므로 명시적 락을 쓴다.
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private volatile long lastSyncedAtMillis;
+    private LocalDateTime watermark;
+
+    public AccessTokenBlacklistCache(
+            AccessTokenBlacklistRepository accessTokenBlacklistRepository,
+            TokenBlacklistProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.accessTokenBlacklistRepository = accessTokenBlacklistRepository;
+        this.properties = properties;
+        this.filteredCounter = Counter.builder(LOOKUP_METRIC).tag("result", "filtered").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder(LOOKUP_METRIC).tag("result", "false_positive").register(meterRegistry);
+        this.revokedCounter = Counter.builder(LOOKUP_METRIC).tag("result", "revoked").register(meterRegistry);
+        this.fallbackCounter = Counter.builder(LOOKUP_METRIC).tag("result", "fallback").register(meterRegistry);
+        Gauge.builder("auth.token.blacklist.fpp.expected", this, AccessTokenBlacklistCache::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("auth.token.blacklist.fpp.observed", this, AccessTokenBlacklistCache::observedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("auth.token.blacklist.generations", generations, ConcurrentSkipListMap::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String tokenHash) {
+        boolean fresh = isFresh();
+        if (fresh && !mightContain(tokenHash)) {
+            filteredCounter.increment();
+            return false;
+        }
+        boolean revoked = accessTokenBlacklistRepository.existsByTokenHashAndExpiresAtAfter(tokenHash, LocalDateTime.now());
+        if (!fresh) {
+            fallbackCounter.increment();
+        } else if (revoked) {
+            revokedCounter.increment();
+        } else {
+            falsePositiveCounter.increment();
+        }
+        return revoked;
+    }
+
+    public void add(String tokenHash, LocalDateTime expiresAt) {
+        long bucketSeconds = properties.getBucketSeconds();
+        long expiresAtEpoch = expiresAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        long bucketEnd = (Math.floorDiv(expiresAtEpoch, bucketSeconds) + 1) * bucketSeconds;
+        generations.computeIfAbsent(bucketEnd, key -> new BloomFilter(
+                        properties.getExpectedInsertionsPerBucket(),
+                        properties.getFalsePositiveRate()
+                ))
+                .put(tokenHash);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token-blacklist.sync-interval-ms:5000}")
+    public void sync() {
+        syncLock.lock();
+        try {
+            syncEntries();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncEntries() {
+        LocalDateTime now = LocalDateTime.now();
+        generations.headMap(now.atZone(ZoneId.systemDefault()).toEpochSecond(), true).clear();
+        try {
+            List<AccessTokenBlacklist> entries = watermark == null
+                    ? accessTokenBlacklistRepository.findByExpiresAtAfter(now)
+                    : accessTokenBlacklistRepository.findActiveCreatedSince(
+                            now,
+                            watermark.minusSeconds(properties.getSyncOverlapSeconds())
+                    );
+            for (AccessTokenBlacklist entry : entries) {
+                add(entry.getTokenHash(), entry.getExpiresAt());
+                if (entry.getCreatedAt() != null
+                        && (watermark == null || entry.getCreatedAt().isAfter(watermark))) {
+                    watermark = entry.getCreatedAt();
+                }
+            }
+            lastSyncedAtMillis = System.currentTimeMillis();
+        } catch (RuntimeException ex) {
+            log.warn("accessTokenBlacklistSync failed message={}", ex.getMessage());
+        }
+    }
+
+    private boolean mightContain(String tokenHash) {
+        long now = System.currentTimeMillis() / 1000;
+        for (BloomFilter generation : generations.tailMap(now, false).values()) {
+            if (generation.mightContain(tokenHash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 동기화가 한 번도 성공하지 않았거나 오래 실패하면 필터를 믿지 않고 DB 로 확인한다.
+    private boolean isFresh() {
+        long synced = lastSyncedAtMillis;
+        return synced != 0 && System.currentTimeMillis() - synced <= properties.getStaleAfterMs();
+    }
+
+    private double expectedFalsePositiveRate() {
+        double trueNegative = 1.0;
+        for (BloomFilter generation : generations.values()) {
+            trueNegative *= 1.0 - generation.expectedFalsePositiveRate();
+        }
+        return 1.0 - trueNegative;
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double negatives = falsePositives + filteredCounter.count();
+        return negatives == 0 ? 0.0 : falsePositives / negatives;
+    }
+}
@@ -1,8 +1,19 @@
 package com.studywithme.global.security.jwt;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AccessTokenBlacklistRepository extends JpaRepository<AccessTokenBlacklist, String> {
     boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
+
+    List<AccessTokenBlacklist> findByExpiresAtAfter(LocalDateTime now);
+
+    @Query("select b from AccessTokenBlacklist b where b.expiresAt > :now and b.createdAt >= :since")
+    List<AccessTokenBlacklist> findActiveCreatedSince(
+            @Param("now") LocalDateTime now,
+            @Param("since") LocalDateTime since
+    );
 }
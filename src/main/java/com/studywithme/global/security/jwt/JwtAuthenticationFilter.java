@@ -1,20 +1,24 @@
 package com.studywithme.global.security.jwt;
 
 import com.studywithme.global.exception.ErrorCode;
-import com.studywithme.member.domain.Member;
+import com.studywithme.global.util.HashingUtil;
+import com.studywithme.member.domain.MemberRole;
 import com.studywithme.member.domain.MemberStatus;
-import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.member.service.MemberStatusCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
-import org.springframework.security.access.AccessDeniedException;
+import java.util.Map;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
@@ -23,19 +27,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String AUTH_ERROR_ATTRIBUTE = "authErrorCode";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final Map<MemberRole, List<GrantedAuthority>> AUTHORITIES = authoritiesByRole();
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
-    private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
+    private final VerifiedAccessTokenCache verifiedAccessTokenCache;
+    private final MemberStatusCache memberStatusCache;
+    private final AccessTokenBlacklistCache accessTokenBlacklistCache;
+    private final Timer blacklistLookupTimer;
+    private final Timer memberStatusLookupTimer;
 
     public JwtAuthenticationFilter(
-            JwtTokenProvider jwtTokenProvider,
-            MemberRepository memberRepository,
-            AccessTokenBlacklistRepository accessTokenBlacklistRepository
+            VerifiedAccessTokenCache verifiedAccessTokenCache,
+            MemberStatusCache memberStatusCache,
+            AccessTokenBlacklistCache accessTokenBlacklistCache,
+            MeterRegistry meterRegistry
     ) {
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.memberRepository = memberRepository;
-        this.accessTokenBlacklistRepository = accessTokenBlacklistRepository;
+        this.verifiedAccessTokenCache = verifiedAccessTokenCache;
+        this.memberStatusCache = memberStatusCache;
+        this.accessTokenBlacklistCache = accessTokenBlacklistCache;
+        this.blacklistLookupTimer = lookupTimer("blacklist", meterRegistry);
+        this.memberStatusLookupTimer = lookupTimer("member_status", meterRegistry);
     }
 
     @Override
@@ -47,23 +57,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
         if (token != null) {
             try {
-                if (isBlacklisted(token)) {
+                String tokenHash = HashingUtil.sha256(token);
+                if (blacklistLookupTimer.record(() -> accessTokenBlacklistCache.isRevoked(tokenHash))) {
                     request.setAttribute(AUTH_ERROR_ATTRIBUTE, ErrorCode.AUTH_UNAUTHORIZED);
                     filterChain.doFilter(request, response);
                     return;
                 }
-                MemberPrincipal principal = jwtTokenProvider.parseAccessToken(token);
-                Member member = memberRepository.findById(principal.memberId()).orElse(null);
-                if (member == null) {
+                MemberPrincipal principal = verifiedAccessTokenCache.resolve(token, tokenHash);
+                MemberStatus status = memberStatusLookupTimer.record(
+                        () -> memberStatusCache.getStatus(principal.memberId()).orElse(null)
+                );
+                if (status == null) {
                     request.setAttribute(AUTH_ERROR_ATTRIBUTE, ErrorCode.AUTH_UNAUTHORIZED);
-                } else if (member.getStatus() != MemberStatus.ACTIVE) {
-                    throw new AccessDeniedException("member is not active");
+                } else if (status != MemberStatus.ACTIVE) {
+                    // 보안 필터 체인의 예외 변환보다 앞이라 예외를 던지면 403 으로 바뀌지 않는다. entry point 가 이 코드로 응답한다.
+                    request.setAttribute(AUTH_ERROR_ATTRIBUTE, ErrorCode.AUTH_FORBIDDEN);
                 } else {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     principal,
                                     null,
-                                    List.of(new SimpleGrantedAuthority("ROLE_" + principal.role().name()))
+                                    AUTHORITIES.get(principal.role())
                             );
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 }
@@ -77,9 +91,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isBlacklisted(String token) {
-        String hashed = com.studywithme.global.util.HashingUtil.sha256(token);
-        return accessTokenBlacklistRepository.existsByTokenHashAndExpiresAtAfter(hashed, LocalDateTime.now());
+    private static Timer lookupTimer(String lookup, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.filter.lookup")
+                .tag("lookup", lookup)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Map<MemberRole, List<GrantedAuthority>> authoritiesByRole() {
+        Map<MemberRole, List<GrantedAuthority>> authorities = new EnumMap<>(MemberRole.class);
+        for (MemberRole role : MemberRole.values()) {
+            authorities.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+        return authorities;
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -4,6 +4,7 @@ import com.studywithme.member.domain.MemberRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -11,7 +12,12 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,8 +26,11 @@ public class JwtTokenProvider {
     private static final String CLAIM_TYPE = "type";
     private static final String TYPE_ACCESS = "access";
     private static final String TYPE_REFRESH = "refresh";
+    private static final Map<String, MemberRole> ROLES = Arrays.stream(MemberRole.values())
+            .collect(Collectors.toUnmodifiableMap(MemberRole::name, Function.identity()));
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTtlMinutes;
     private final long refreshTtlDays;
 
@@ -31,6 +40,8 @@ public class JwtTokenProvider {
             throw new IllegalStateException("JWT secret must be at least 32 bytes.");
         }
         this.key = Keys.hmacShaKeyFor(secretBytes);
+        // JwtParser 는 불변이며 thread-safe 하므로 한 번만 만든다.
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTtlMinutes = properties.getAccessTtlMinutes();
         this.refreshTtlDays = properties.getRefreshTtlDays();
     }
@@ -49,7 +60,9 @@ public class JwtTokenProvider {
                 .signWith(key)
                 .compact();
 
+        // 같은 초에 발급된 refresh 토큰끼리 해시가 겹치지 않도록 jti 를 넣는다.
         String refreshToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(memberId))
                 .claim(CLAIM_TYPE, TYPE_REFRESH)
                 .issuedAt(Date.from(now))
@@ -62,25 +75,38 @@ public class JwtTokenProvider {
     }
 
     public MemberPrincipal parseAccessToken(String token) {
+        return verifyAccessToken(token).principal();
+    }
+
+    public VerifiedAccessToken verifyAccessToken(String token) {
         Claims claims = parseClaims(token);
         validateTokenType(claims, TYPE_ACCESS);
-        Long memberId = Long.valueOf(claims.getSubject());
-        MemberRole role = MemberRole.valueOf(claims.get(CLAIM_ROLE, String.class));
-        return new MemberPrincipal(memberId, role);
+        // toUnmodifiableMap 은 get(null) 에서 NPE 를 던지므로 claim 이 없으면 먼저 거부한다.
+        String roleName = claims.get(CLAIM_ROLE, String.class);
+        MemberRole role = roleName == null ? null : ROLES.get(roleName);
+        if (role == null) {
+            throw new JwtException("Invalid role claim");
+        }
+        MemberPrincipal principal = new MemberPrincipal(parseSubject(claims), role);
+        return new VerifiedAccessToken(principal, claims.getExpiration().toInstant());
     }
 
     public Long parseRefreshToken(String token) {
         Claims claims = parseClaims(token);
         validateTokenType(claims, TYPE_REFRESH);
-        return Long.valueOf(claims.getSubject());
+        return parseSubject(claims);
     }
 
     public Claims parseClaims(String token) throws ExpiredJwtException, JwtException {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private Long parseSubject(Claims claims) {
+        try {
+            return Long.parseLong(claims.getSubject());
+        } catch (NumberFormatException ex) {
+            throw new JwtException("Invalid subject");
+        }
     }
 
     private void validateTokenType(Claims claims, String expected) {
@@ -0,0 +1,79 @@
+package com.studywithme.global.security.jwt;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "auth.token-blacklist")
+public class TokenBlacklistProperties {
+
+    @Min(1)
+    private long bucketSeconds = 60;
+
+    @Min(1)
+    private long expectedInsertionsPerBucket = 10_000;
+
+    @DecimalMin("0.000001")
+    @DecimalMax("0.5")
+    private double falsePositiveRate = 0.001;
+
+    @Min(100)
+    private long syncIntervalMs = 5_000;
+
+    @Min(0)
+    private long syncOverlapSeconds = 10;
+
+    @Min(1_000)
+    private long staleAfterMs = 30_000;
+
+    public long getBucketSeconds() {
+        return bucketSeconds;
+    }
+
+    public void setBucketSeconds(long bucketSeconds) {
+        this.bucketSeconds = bucketSeconds;
+    }
+
+    public long getExpectedInsertionsPerBucket() {
+        return expectedInsertionsPerBucket;
+    }
+
+    public void setExpectedInsertionsPerBucket(long expectedInsertionsPerBucket) {
+        this.expectedInsertionsPerBucket = expectedInsertionsPerBucket;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    public long getSyncOverlapSeconds() {
+        return syncOverlapSeconds;
+    }
+
+    public void setSyncOverlapSeconds(long syncOverlapSeconds) {
+        this.syncOverlapSeconds = syncOverlapSeconds;
+    }
+
+    public long getStaleAfterMs() {
+        return staleAfterMs;
+    }
+
+    public void setStaleAfterMs(long staleAfterMs) {
+        this.staleAfterMs = staleAfterMs;
+    }
+}
@@ -0,0 +1,6 @@
+package com.studywithme.global.security.jwt;
+
+import java.time.Instant;
+
+public record VerifiedAccessToken(MemberPrincipal principal, Instant expiresAt) {
+}
@@ -0,0 +1,69 @@
+package com.studywithme.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+// 서명 검증이 끝난 access token 을 토큰 해시 -> principal 로 exp 까지 보관한다.
+// 블랙리스트와 회원 상태 확인은 캐시와 무관하게 매 요청 수행된다.
+@Component
+public class VerifiedAccessTokenCache {
+    private static final String CACHE_NAME = "verifiedAccessToken";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedAccessToken> cache;
+
+    public VerifiedAccessTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            VerifiedTokenCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        if (!properties.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public MemberPrincipal resolve(String token, String tokenHash) {
+        if (cache == null) {
+            return jwtTokenProvider.parseAccessToken(token);
+        }
+        VerifiedAccessToken cached = cache.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.principal();
+        }
+        VerifiedAccessToken verified = jwtTokenProvider.verifyAccessToken(token);
+        cache.put(tokenHash, verified);
+        return verified.principal();
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedAccessToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedAccessToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedAccessToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedAccessToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.studywithme.global.security.password;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.global.logging.MdcTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// bcrypt 는 요청 스레드가 아닌 전용 bounded 풀에서 수행한다.
+// 큐가 가득 차면 즉시 COMMON_SERVICE_BUSY 로 거절해 CPU 포화가 요청 적체로 번지지 않게 한다.
+// virtual 프로필에서도 CPU 바운드 작업이라 플랫폼 스레드 풀을 유지한다.
+@Component
+public class PasswordHasher {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+
+    public PasswordHasher(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.isCalibrate()
+                ? calibrate(properties.getMinStrength(), properties.getMaxStrength(), properties.getTargetMillis())
+                : properties.getStrength();
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.timeoutMs = properties.getTimeoutMs();
+        this.threadPool = new ThreadPoolExecutor(
+                properties.getThreads(),
+                properties.getThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new HasherThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "passwordHashing", Tags.empty());
+        log.info("passwordHasher strength={}, calibrated={}, threads={}, queueCapacity={}",
+                strength, properties.isCalibrate(), properties.getThreads(), properties.getQueueCapacity());
+    }
+
+    public BCryptPasswordEncoder passwordEncoder() {
+        return passwordEncoder;
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정과 다르면 로그인 성공 시 다시 해시한다.
+    public boolean needsRehash(String encodedPassword) {
+        return parseCost(encodedPassword) != strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(MdcTaskDecorator.wrap(task));
+        } catch (RejectedExecutionException ex) {
+            throw new ApiException(ErrorCode.COMMON_SERVICE_BUSY);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new ApiException(ErrorCode.COMMON_SERVICE_BUSY);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.INTERNAL_ERROR);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("password hashing failed", ex.getCause());
+        }
+    }
+
+    private static int parseCost(String encodedPassword) {
+        // $2a$10$... 형식
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    // 목표 지연 안에 들어오는 가장 높은 cost 를 고른다.
+    private static int calibrate(int minStrength, int maxStrength, long targetMillis) {
+        int chosen = minStrength;
+        new BCryptPasswordEncoder(minStrength).encode("calibration-warmup");
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(candidate);
+            long start = System.nanoTime();
+            encoder.encode("calibration-probe");
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            log.info("bcryptCalibration strength={}, elapsedMs={}", candidate, elapsedMs);
+            if (elapsedMs > targetMillis) {
+                break;
+            }
+            chosen = candidate;
+        }
+        return chosen;
+    }
+
+    private static final class HasherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.studywithme.global.startup;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "startup.report")
+public class StartupReportProperties {
+
+    private boolean enabled = false;
+
+    // 기동 리포트에 남길 느린 빈 생성 단계 수
+    @Min(1)
+    private int topSteps = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTopSteps() {
+        return topSteps;
+    }
+
+    public void setTopSteps(int topSteps) {
+        this.topSteps = topSteps;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studywithme.global.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+// readiness 가 ACCEPTING_TRAFFIC 이 된 시점에 JVM 기동부터 걸린 시간과 가장 오래 걸린 빈 생성 단계를 한 번 로그로 남긴다.
+// readiness 는 ApplicationReadyEvent 리스너(동기 적재 포함)가 모두 끝난 뒤 바뀌므로 리스너 순서와 관계없이 실제 준비 시각이 된다.
+// 빈 생성 시간에는 그 빈이 끌어온 의존 빈의 생성 시간도 들어 있다. 타임라인을 비우지 않으므로 actuator startup 엔드포인트로 전체 기록을 다시 볼 수 있다.
+@Component
+@ConditionalOnProperty(prefix = "startup.report", name = "enabled", havingValue = "true")
+public class StartupTimelineReporter {
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineReporter.class);
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final StartupReportProperties properties;
+    private volatile long contextMs = -1;
+    private volatile ApplicationStartup applicationStartup;
+    private boolean reported;
+
+    public StartupTimelineReporter(StartupReportProperties properties) {
+        this.properties = properties;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        contextMs = event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis();
+        applicationStartup = event.getApplicationContext().getApplicationStartup();
+    }
+
+    @EventListener
+    public synchronized void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (reported || event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        reported = true;
+        long jvmUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("startupReport readyMs={}, contextMs={}", jvmUptimeMs, contextMs);
+
+        if (!(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        List<StartupTimeline.TimelineEvent> slowest = buffering.getBufferedTimeline().getEvents().stream()
+                .filter(timelineEvent -> BEAN_INSTANTIATE_STEP.equals(timelineEvent.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(properties.getTopSteps())
+                .toList();
+        for (StartupTimeline.TimelineEvent timelineEvent : slowest) {
+            log.info("startupReport bean={}, durationMs={}",
+                    beanName(timelineEvent.getStartupStep()), timelineEvent.getDuration().toMillis());
+        }
+    }
+
+    private static String beanName(StartupStep step) {
+        return StreamSupport.stream(step.getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+}
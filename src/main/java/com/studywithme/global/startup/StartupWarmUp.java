@@ -0,0 +1,92 @@
+package com.studywithme.global.startup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+// 캐시·색인 적재(WarmUpTask)를 돌린다. Spring Boot 는 ApplicationReadyEvent 리스너가 모두 끝난 뒤 readiness 를 바꾸므로,
+// 기본값은 준비 완료 이벤트 안에서 차례로 적재해 채워진 상태로 트래픽을 받는다.
+// startup.warm-up.background 가 켜지면(fast-startup 프로필) readiness 가 ACCEPTING_TRAFFIC 이 된 뒤 전용 스레드에서 적재한다.
+// 그동안 각 구조는 적재 전 상태로 DB 에 답한다.
+@Component
+public class StartupWarmUp {
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    private final List<WarmUpTask> tasks;
+    private final StartupWarmUpProperties properties;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "startup-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean started;
+
+    public StartupWarmUp(List<WarmUpTask> tasks, StartupWarmUpProperties properties, MeterRegistry meterRegistry) {
+        this.tasks = tasks;
+        this.properties = properties;
+        Gauge.builder("startup.warm-up.pending", this, warmUp -> warmUp.pending())
+                .description("warm-up tasks that have not finished loading")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isBackground()) {
+            return;
+        }
+        for (WarmUpTask task : tasks) {
+            long start = System.nanoTime();
+            task.warmUp();
+            log.info("startupWarmUp task={}, durationMs={}", name(task), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @EventListener
+    public synchronized void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (!properties.isBackground() || started || event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        started = true;
+        for (WarmUpTask task : tasks) {
+            executor.execute(() -> runInBackground(task));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    long pending() {
+        return tasks.stream().filter(task -> !task.isWarmedUp()).count();
+    }
+
+    private void runInBackground(WarmUpTask task) {
+        long start = System.nanoTime();
+        try {
+            task.warmUp();
+            log.info("startupWarmUp task={}, background=true, durationMs={}",
+                    name(task), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            // 기동은 이미 끝났으므로 실패시키지 않고 다시 시도한다. 그때까지는 DB 로 답한다.
+            log.warn("startupWarmUpFailed task={}, retryInMs={}", name(task), properties.getRetryDelayMs(), ex);
+            executor.schedule(() -> runInBackground(task), properties.getRetryDelayMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static String name(WarmUpTask task) {
+        return ClassUtils.getUserClass(task).getSimpleName();
+    }
+}
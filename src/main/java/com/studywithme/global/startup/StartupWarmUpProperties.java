@@ -0,0 +1,33 @@
+package com.studywithme.global.startup;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "startup.warm-up")
+public class StartupWarmUpProperties {
+
+    // true 면 readiness 가 ACCEPTING_TRAFFIC 이 된 뒤 백그라운드에서 적재한다.
+    private boolean background = false;
+
+    // 백그라운드 적재가 실패했을 때 다시 시도하기까지의 간격
+    @Min(1)
+    private long retryDelayMs = 30_000;
+
+    public boolean isBackground() {
+        return background;
+    }
+
+    public void setBackground(boolean background) {
+        this.background = background;
+    }
+
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+}
@@ -0,0 +1,10 @@
+package com.studywithme.global.startup;
+
+// 기동 직후 테이블을 읽어 메모리 구조를 채우는 작업. 언제 돌릴지는 StartupWarmUp 이 정한다.
+// 끝나기 전에는 isWarmedUp 이 false 이고, 구조는 적재 전 상태로 보고 DB 로 답해야 한다.
+public interface WarmUpTask {
+
+    void warmUp();
+
+    boolean isWarmedUp();
+}
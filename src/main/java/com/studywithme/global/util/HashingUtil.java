@@ -1,24 +1,94 @@
 package com.studywithme.global.util;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 public final class HashingUtil {
+    private static final int SHA256_LENGTH = 32;
+    private static final int MAX_BUFFERED_INPUT = 8 * 1024;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    // MessageDigest 는 thread-safe 하지 않으므로 스레드마다 하나씩 재사용한다.
+    private static final ThreadLocal<Sha256State> SHA256 = ThreadLocal.withInitial(Sha256State::new);
+
     private HashingUtil() {
     }
 
     public static String sha256(String value) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-            StringBuilder builder = new StringBuilder();
-            for (byte b : hashed) {
-                builder.append(String.format("%02x", b));
+        Sha256State state = SHA256.get();
+        state.update(value);
+        return toHex(state.finish(), SHA256_LENGTH);
+    }
+
+    public static byte[] sha256(byte[] value) {
+        return SHA256.get().digest.digest(value);
+    }
+
+    public static byte[] sha256(ByteBuffer value) {
+        MessageDigest digest = SHA256.get().digest;
+        digest.update(value);
+        return digest.digest();
+    }
+
+    public static String toHex(byte[] bytes) {
+        return toHex(bytes, bytes.length);
+    }
+
+    private static String toHex(byte[] bytes, int length) {
+        byte[] hex = new byte[length * 2];
+        for (int i = 0; i < length; i++) {
+            int b = bytes[i] & 0xFF;
+            hex[i * 2] = HEX_DIGITS[b >>> 4];
+            hex[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
+        }
+        return new String(hex, StandardCharsets.ISO_8859_1);
+    }
+
+    private static final class Sha256State {
+        private final MessageDigest digest;
+        private final byte[] output = new byte[SHA256_LENGTH];
+        private byte[] input = new byte[512];
+
+        private Sha256State() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 not available", ex);
+            }
+        }
+
+        // 토큰처럼 ASCII 로만 이루어진 값은 재사용 버퍼로 인코딩하고, 그 외에는 UTF-8 인코딩으로 처리한다.
+        private void update(String value) {
+            int length = value.length();
+            if (length > MAX_BUFFERED_INPUT) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (input.length < length) {
+                input = new byte[Math.min(MAX_BUFFERED_INPUT, Math.max(length, input.length * 2))];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                input[i] = (byte) c;
+            }
+            digest.update(input, 0, length);
+        }
+
+        private byte[] finish() {
+            try {
+                digest.digest(output, 0, SHA256_LENGTH);
+                return output;
+            } catch (DigestException ex) {
+                digest.reset();
+                throw new IllegalStateException("SHA-256 digest failed", ex);
             }
-            return builder.toString();
-        } catch (NoSuchAlgorithmException ex) {
-            throw new IllegalStateException("SHA-256 not available", ex);
         }
     }
 }
@@ -0,0 +1,154 @@
+package com.studywithme.global.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// 계층형 타이밍 휠. 가장 아래 휠은 tickMs 간격 슬롯 wheelSize 개이고, 범위를 넘는 항목은 한 단계 위
+// (tick = 아래 휠 전체 구간) 휠에 넣는다. 위 휠의 슬롯 시각이 오면 항목을 다시 넣어 아래로 내려보낸다.
+// 슬롯은 만료 시각 순 큐에 들어가므로 advance 는 비어 있는 tick 을 건너뛴다. 키마다 하나의 마감만 유지한다.
+// 마감은 다음 tick 경계로 올려 잡으므로 마감 시각보다 먼저 꺼내지는 일은 없다.
+public class HierarchicalTimingWheel<K> {
+    private final long tickMs;
+    private final PriorityQueue<Bucket<K>> dueBuckets = new PriorityQueue<>(
+            (left, right) -> Long.compare(left.expiration, right.expiration));
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private final Wheel<K> root;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize greater than 1");
+        }
+        this.tickMs = tickMs;
+        this.root = new Wheel<>(tickMs, wheelSize, startMs, dueBuckets);
+    }
+
+    // 이미 지난 마감이면 false 를 반환하며, 호출 측이 바로 처리해야 한다.
+    public synchronized boolean schedule(K key, long deadlineMs) {
+        cancel(key);
+        long dueMs = -Math.floorDiv(-deadlineMs, tickMs) * tickMs;
+        Entry<K> entry = new Entry<>(key, dueMs);
+        if (!root.add(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    public synchronized void cancel(K key) {
+        Entry<K> previous = entries.remove(key);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // nowMs 까지 마감된 키를 마감 순서대로 돌려준다.
+    public synchronized List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>();
+        Bucket<K> bucket;
+        while ((bucket = dueBuckets.peek()) != null && bucket.expiration <= nowMs) {
+            dueBuckets.poll();
+            root.advanceClock(bucket.expiration);
+            List<Entry<K>> flushed = bucket.flush();
+            for (Entry<K> entry : flushed) {
+                if (entry.cancelled) {
+                    continue;
+                }
+                if (!root.add(entry)) {
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+            }
+        }
+        return expired;
+    }
+
+    private static final class Wheel<K> {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long intervalMs;
+        private final List<Bucket<K>> buckets;
+        private final PriorityQueue<Bucket<K>> dueBuckets;
+        private long currentTime;
+        private Wheel<K> overflow;
+
+        private Wheel(long tickMs, int wheelSize, long startMs, PriorityQueue<Bucket<K>> dueBuckets) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.intervalMs = tickMs * wheelSize;
+            this.dueBuckets = dueBuckets;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+        }
+
+        private boolean add(Entry<K> entry) {
+            long deadline = entry.dueMs;
+            if (deadline < currentTime + tickMs) {
+                return false;
+            }
+            if (deadline < currentTime + intervalMs) {
+                long virtualId = deadline / tickMs;
+                Bucket<K> bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.entries.add(entry);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    dueBuckets.add(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Wheel<>(intervalMs, wheelSize, currentTime, dueBuckets);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<K> {
+        private final List<Entry<K>> entries = new ArrayList<>();
+        private long expiration = -1;
+
+        // 슬롯이 새 회차로 재사용될 때만 true. 그때 만료 큐에 다시 넣는다.
+        private boolean setExpiration(long expiration) {
+            if (this.expiration == expiration) {
+                return false;
+            }
+            this.expiration = expiration;
+            return true;
+        }
+
+        private List<Entry<K>> flush() {
+            List<Entry<K>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+            return flushed;
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long dueMs;
+        private boolean cancelled;
+
+        private Entry(K key, long dueMs) {
+            this.key = key;
+            this.dueMs = dueMs;
+        }
+    }
+}
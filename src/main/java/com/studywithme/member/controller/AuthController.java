@@ -2,6 +2,7 @@ package com.studywithme.member.controller;
 
 import com.studywithme.global.response.ApiResponse;
 import com.studywithme.member.dto.LoginRequest;
+import com.studywithme.member.dto.LogoutRequest;
 import com.studywithme.member.dto.MemberMeResponse;
 import com.studywithme.member.dto.RefreshTokenRequest;
 import com.studywithme.member.dto.SignupRequest;
@@ -35,8 +36,12 @@ public class AuthController {
 
     @Operation(summary = "로그인")
     @PostMapping("/login")
-    public ApiResponse<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
-        return ApiResponse.success(authService.login(request));
+    public ApiResponse<TokenResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        // server.forward-headers-strategy 로 신뢰하는 프록시의 X-Forwarded-For 가 이미 반영된 주소다.
+        return ApiResponse.success(authService.login(request, httpRequest.getRemoteAddr()));
     }
 
     @Operation(summary = "토큰 재발급")
@@ -47,10 +52,13 @@ public class AuthController {
 
     @Operation(summary = "로그아웃")
     @PostMapping("/logout")
-    public ApiResponse<Void> logout(HttpServletRequest request) {
+    public ApiResponse<Void> logout(
+            HttpServletRequest request,
+            @RequestBody(required = false) LogoutRequest logoutRequest
+    ) {
         Long memberId = SecurityUtils.currentMemberId();
         String accessToken = resolveAccessToken(request);
-        authService.logout(memberId, accessToken);
+        authService.logout(memberId, accessToken, logoutRequest);
         return ApiResponse.success(null);
     }
 
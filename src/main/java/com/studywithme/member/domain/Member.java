@@ -24,12 +24,6 @@ public class Member {
     @Column(name = "password_hash", nullable = false, length = 255)
     private String passwordHash;
 
-    @Column(name = "refresh_token_hash", length = 64)
-    private String refreshTokenHash;
-
-    @Column(name = "refresh_token_expires_at")
-    private LocalDateTime refreshTokenExpiresAt;
-
     @Column(nullable = false, length = 50)
     private String name;
 
@@ -70,14 +64,6 @@ public class Member {
         return passwordHash;
     }
 
-    public String getRefreshTokenHash() {
-        return refreshTokenHash;
-    }
-
-    public LocalDateTime getRefreshTokenExpiresAt() {
-        return refreshTokenExpiresAt;
-    }
-
     public String getName() {
         return name;
     }
@@ -90,13 +76,11 @@ public class Member {
         return status;
     }
 
-    public void updateRefreshToken(String refreshTokenHash, LocalDateTime refreshTokenExpiresAt) {
-        this.refreshTokenHash = refreshTokenHash;
-        this.refreshTokenExpiresAt = refreshTokenExpiresAt;
+    public void changePasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
     }
 
-    public void clearRefreshToken() {
-        this.refreshTokenHash = null;
-        this.refreshTokenExpiresAt = null;
+    public void changeStatus(MemberStatus status) {
+        this.status = status;
     }
 }
@@ -0,0 +1,7 @@
+package com.studywithme.member.dto;
+
+// refreshToken 을 보내면 그 기기의 세션만, 없으면 회원의 모든 세션을 끝낸다.
+public record LogoutRequest(
+        String refreshToken
+) {
+}
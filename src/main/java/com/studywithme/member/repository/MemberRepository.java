@@ -1,10 +1,16 @@
 package com.studywithme.member.repository;
 
 import com.studywithme.member.domain.Member;
+import com.studywithme.member.domain.MemberStatus;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select m.status from Member m where m.id = :id")
+    Optional<MemberStatus> findStatusById(@Param("id") Long id);
 }
@@ -0,0 +1,27 @@
+package com.studywithme.member.repository;
+
+import com.studywithme.member.domain.RefreshToken;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 동시에 같은 토큰으로 재발급하면 한 요청만 1 을 받는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.rotatedAt = :now"
+            + " where t.id = :id and t.rotatedAt is null and t.revokedAt is null")
+    int markRotated(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update RefreshToken t set t.revokedAt = :now where t.memberId = :memberId and t.revokedAt is null")
+    int revokeAllByMemberId(@Param("memberId") Long memberId, @Param("now") LocalDateTime now);
+}
@@ -3,92 +3,152 @@ package com.studywithme.member.service;
 import com.studywithme.global.exception.ApiException;
 import com.studywithme.global.exception.ErrorCode;
 import com.studywithme.global.security.jwt.AccessTokenBlacklist;
+import com.studywithme.global.security.jwt.AccessTokenBlacklistCache;
 import com.studywithme.global.security.jwt.AccessTokenBlacklistRepository;
 import com.studywithme.global.security.jwt.JwtTokenProvider;
 import com.studywithme.global.security.jwt.TokenPair;
+import com.studywithme.global.security.password.PasswordHasher;
 import com.studywithme.global.util.HashingUtil;
 import com.studywithme.member.domain.Member;
 import com.studywithme.member.domain.MemberRole;
 import com.studywithme.member.domain.MemberStatus;
-import com.studywithme.member.domain.LoginAttempt;
+import com.studywithme.member.domain.RefreshToken;
 import com.studywithme.member.dto.LoginRequest;
+import com.studywithme.member.dto.LogoutRequest;
 import com.studywithme.member.dto.MemberMeResponse;
 import com.studywithme.member.dto.RefreshTokenRequest;
 import com.studywithme.member.dto.SignupRequest;
 import com.studywithme.member.dto.TokenResponse;
-import com.studywithme.member.repository.LoginAttemptRepository;
 import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.member.repository.RefreshTokenRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.UUID;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+// 비밀번호 해시는 DB 커넥션을 잡지 않은 상태에서 PasswordHasher 풀에서 수행하고,
+// 쓰기는 짧은 트랜잭션으로만 묶는다. 로그인 실패 횟수는 LoginAttemptLimiter 가 메모리에서 판정한다.
+// refresh 토큰은 member 행이 아니라 refresh_token 에 기기(family)별로 두어 재발급이 회원 행을 잠그지 않는다.
 @Service
-@Transactional
 public class AuthService {
-    private static final int MAX_LOGIN_FAIL_COUNT = 5;
-    private static final int LOGIN_BLOCK_MINUTES = 10;
+    private static final String LOGIN_METRIC = "auth.login";
+    private static final String EMAIL_UNIQUE_KEY = "uk_member_email";
 
     private final MemberRepository memberRepository;
-    private final LoginAttemptRepository loginAttemptRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final EmailExistenceFilter emailExistenceFilter;
     private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final AccessTokenBlacklistCache accessTokenBlacklistCache;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter loginSuccessCounter;
+    private final Counter loginFailureCounter;
+    private final Counter loginBlockedCounter;
+    private final Counter loginThrottledCounter;
+    private final Counter refreshReuseCounter;
 
     public AuthService(
             MemberRepository memberRepository,
-            LoginAttemptRepository loginAttemptRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            LoginAttemptLimiter loginAttemptLimiter,
+            EmailExistenceFilter emailExistenceFilter,
             AccessTokenBlacklistRepository accessTokenBlacklistRepository,
-            PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider
+            AccessTokenBlacklistCache accessTokenBlacklistCache,
+            PasswordHasher passwordHasher,
+            JwtTokenProvider jwtTokenProvider,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
     ) {
         this.memberRepository = memberRepository;
-        this.loginAttemptRepository = loginAttemptRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.emailExistenceFilter = emailExistenceFilter;
         this.accessTokenBlacklistRepository = accessTokenBlacklistRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.accessTokenBlacklistCache = accessTokenBlacklistCache;
+        this.passwordHasher = passwordHasher;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.loginSuccessCounter = Counter.builder(LOGIN_METRIC).tag("result", "success").register(meterRegistry);
+        this.loginFailureCounter = Counter.builder(LOGIN_METRIC).tag("result", "failure").register(meterRegistry);
+        this.loginBlockedCounter = Counter.builder(LOGIN_METRIC).tag("result", "blocked").register(meterRegistry);
+        this.loginThrottledCounter = Counter.builder(LOGIN_METRIC).tag("result", "throttled").register(meterRegistry);
+        this.refreshReuseCounter = Counter.builder("auth.refresh.reuse").register(meterRegistry);
     }
 
+    // 중복 여부는 uk_member_email 로 판정하고 INSERT 한 번으로 끝낸다.
+    // 이미 있다고 알려진 이메일은 bcrypt 전에 거절한다.
     public MemberMeResponse signup(SignupRequest request) {
-        if (memberRepository.existsByEmail(request.email())) {
-            throw new ApiException(ErrorCode.MEMBER_EMAIL_DUPLICATED);
-        }
+        rejectKnownEmail(request.email());
         MemberRole role = resolveRole(request.role());
         Member member = new Member(
                 request.email(),
-                passwordEncoder.encode(request.password()),
+                passwordHasher.encode(request.password()),
                 request.name(),
                 role,
                 MemberStatus.ACTIVE
         );
-        Member saved = memberRepository.save(member);
+        Member saved;
+        try {
+            saved = memberRepository.save(member);
+        } catch (DataIntegrityViolationException ex) {
+            if (!isDuplicateEmail(ex)) {
+                throw ex;
+            }
+            emailExistenceFilter.confirmExists(request.email());
+            throw new ApiException(ErrorCode.MEMBER_EMAIL_DUPLICATED);
+        }
+        emailExistenceFilter.add(saved.getEmail());
         return toMeResponse(saved);
     }
 
     public TokenResponse login(LoginRequest request) {
-        verifyLoginNotBlocked(request.email());
+        return login(request, null);
+    }
+
+    public TokenResponse login(LoginRequest request, String clientIp) {
+        verifyLoginNotBlocked(request.email(), clientIp);
         Member member = memberRepository.findByEmail(request.email())
                 .orElseThrow(() -> {
-                    recordLoginFailure(request.email());
+                    recordLoginFailure(request.email(), clientIp);
                     return new ApiException(ErrorCode.AUTH_INVALID_CREDENTIALS);
                 });
         if (member.getStatus() != MemberStatus.ACTIVE) {
             throw new ApiException(ErrorCode.AUTH_FORBIDDEN);
         }
-        if (!passwordEncoder.matches(request.password(), member.getPasswordHash())) {
-            recordLoginFailure(request.email());
+        if (!passwordHasher.matches(request.password(), member.getPasswordHash())) {
+            recordLoginFailure(request.email(), clientIp);
             throw new ApiException(ErrorCode.AUTH_INVALID_CREDENTIALS);
         }
+        String rehashed = passwordHasher.needsRehash(member.getPasswordHash())
+                ? passwordHasher.encode(request.password())
+                : null;
         TokenPair tokenPair = jwtTokenProvider.issueTokens(member.getId(), member.getRole());
-        member.updateRefreshToken(HashingUtil.sha256(tokenPair.refreshToken()), tokenPair.refreshTokenExpiresAt());
-        clearLoginAttempt(request.email());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rehashed != null) {
+                memberRepository.findById(member.getId())
+                        .orElseThrow(() -> new ApiException(ErrorCode.AUTH_INVALID_CREDENTIALS))
+                        .changePasswordHash(rehashed);
+            }
+            saveRefreshToken(member.getId(), UUID.randomUUID().toString(), tokenPair);
+        });
+        loginAttemptLimiter.recordSuccess(request.email());
+        loginSuccessCounter.increment();
         return new TokenResponse(tokenPair.accessToken(), tokenPair.refreshToken());
     }
 
+    // 재사용 감지 시 family 폐기는 예외와 함께 커밋돼야 하므로 ApiException 으로는 롤백하지 않는다.
+    @Transactional(noRollbackFor = ApiException.class)
     public TokenResponse refresh(RefreshTokenRequest request) {
         Long memberId = parseRefreshToken(request.refreshToken());
         Member member = memberRepository.findById(memberId)
@@ -96,32 +156,59 @@ public class AuthService {
         if (member.getStatus() != MemberStatus.ACTIVE) {
             throw new ApiException(ErrorCode.AUTH_FORBIDDEN);
         }
-        validateRefreshToken(member, request.refreshToken());
+        RefreshToken current = rotateRefreshToken(memberId, request.refreshToken());
 
         TokenPair tokenPair = jwtTokenProvider.issueTokens(member.getId(), member.getRole());
-        member.updateRefreshToken(HashingUtil.sha256(tokenPair.refreshToken()), tokenPair.refreshTokenExpiresAt());
+        saveRefreshToken(member.getId(), current.getFamilyId(), tokenPair);
         return new TokenResponse(tokenPair.accessToken(), tokenPair.refreshToken());
     }
 
+    @Transactional
     public void logout(Long memberId, String accessToken) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
-        member.clearRefreshToken();
+        logout(memberId, accessToken, null);
+    }
+
+    @Transactional
+    public void logout(Long memberId, String accessToken, LogoutRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        String refreshToken = request == null ? null : request.refreshToken();
+        if (refreshToken == null || refreshToken.isBlank()) {
+            refreshTokenRepository.revokeAllByMemberId(memberId, now);
+        } else {
+            refreshTokenRepository.findByTokenHash(HashingUtil.sha256(refreshToken))
+                    .filter(token -> token.getMemberId().equals(memberId))
+                    .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), now));
+        }
         blacklistAccessToken(accessToken);
     }
 
-    private void validateRefreshToken(Member member, String refreshToken) {
-        if (member.getRefreshTokenHash() == null || member.getRefreshTokenExpiresAt() == null) {
+    // 이미 재발급에 쓰인 토큰이 다시 오면 탈취로 보고 그 family 전체를 폐기한다.
+    private RefreshToken rotateRefreshToken(Long memberId, String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(HashingUtil.sha256(refreshToken))
+                .filter(token -> token.getMemberId().equals(memberId))
+                .orElseThrow(() -> new ApiException(ErrorCode.AUTH_UNAUTHORIZED));
+        if (current.isRevoked()) {
             throw new ApiException(ErrorCode.AUTH_UNAUTHORIZED);
         }
-        if (member.getRefreshTokenExpiresAt().isBefore(LocalDateTime.now())) {
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getExpiresAt().isBefore(now)) {
             throw new ApiException(ErrorCode.AUTH_TOKEN_EXPIRED);
         }
-        String hashed = HashingUtil.sha256(refreshToken);
-        if (!hashed.equals(member.getRefreshTokenHash())) {
-            member.clearRefreshToken();
+        if (refreshTokenRepository.markRotated(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            refreshReuseCounter.increment();
             throw new ApiException(ErrorCode.AUTH_UNAUTHORIZED);
         }
+        return current;
+    }
+
+    private void saveRefreshToken(Long memberId, String familyId, TokenPair tokenPair) {
+        refreshTokenRepository.save(new RefreshToken(
+                memberId,
+                familyId,
+                HashingUtil.sha256(tokenPair.refreshToken()),
+                tokenPair.refreshTokenExpiresAt()
+        ));
     }
 
     private Long parseRefreshToken(String refreshToken) {
@@ -134,6 +221,25 @@ public class AuthService {
         }
     }
 
+    private void rejectKnownEmail(String email) {
+        switch (emailExistenceFilter.check(email)) {
+            case EXISTS -> throw new ApiException(ErrorCode.MEMBER_EMAIL_DUPLICATED);
+            case MAYBE -> {
+                if (memberRepository.existsByEmail(email)) {
+                    emailExistenceFilter.confirmExists(email);
+                    throw new ApiException(ErrorCode.MEMBER_EMAIL_DUPLICATED);
+                }
+            }
+            case ABSENT -> {
+            }
+        }
+    }
+
+    private static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.contains(EMAIL_UNIQUE_KEY);
+    }
+
     private MemberRole resolveRole(MemberRole role) {
         if (role == null) {
             return MemberRole.PARTICIPANT;
@@ -154,27 +260,20 @@ public class AuthService {
         );
     }
 
-    private void verifyLoginNotBlocked(String email) {
-        loginAttemptRepository.findById(email)
-                .filter(attempt -> attempt.getBlockedUntil() != null)
-                .filter(attempt -> attempt.getBlockedUntil().isAfter(LocalDateTime.now()))
-                .ifPresent(attempt -> {
-                    throw new ApiException(ErrorCode.AUTH_LOGIN_BLOCKED);
-                });
-    }
-
-    private void recordLoginFailure(String email) {
-        LoginAttempt attempt = loginAttemptRepository.findById(email)
-                .orElseGet(() -> new LoginAttempt(email));
-        attempt.recordFailure(MAX_LOGIN_FAIL_COUNT, LOGIN_BLOCK_MINUTES, LocalDateTime.now());
-        loginAttemptRepository.save(attempt);
+    private void verifyLoginNotBlocked(String email, String clientIp) {
+        if (loginAttemptLimiter.isBlocked(email)) {
+            loginBlockedCounter.increment();
+            throw new ApiException(ErrorCode.AUTH_LOGIN_BLOCKED);
+        }
+        if (loginAttemptLimiter.isThrottled(clientIp)) {
+            loginThrottledCounter.increment();
+            throw new ApiException(ErrorCode.AUTH_LOGIN_THROTTLED);
+        }
     }
 
-    private void clearLoginAttempt(String email) {
-        loginAttemptRepository.findById(email).ifPresent(attempt -> {
-            attempt.reset();
-            loginAttemptRepository.save(attempt);
-        });
+    private void recordLoginFailure(String email, String clientIp) {
+        loginFailureCounter.increment();
+        loginAttemptLimiter.recordFailure(email, clientIp);
     }
 
     private void blacklistAccessToken(String accessToken) {
@@ -189,6 +288,7 @@ public class AuthService {
             );
             AccessTokenBlacklist entry = new AccessTokenBlacklist(HashingUtil.sha256(accessToken), expiresAt);
             accessTokenBlacklistRepository.save(entry);
+            accessTokenBlacklistCache.add(entry.getTokenHash(), expiresAt);
         } catch (JwtException ex) {
             // ignore invalid tokens on logout
         }
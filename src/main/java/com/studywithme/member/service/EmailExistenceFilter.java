@@ -0,0 +1,162 @@
+package com.studywithme.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studywithme.global.startup.WarmUpTask;
+import com.studywithme.global.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 가입된 이메일의 Bloom filter. ABSENT 면 중복 조회 없이 바로 INSERT 하고, MAYBE 일 때만 DB 를 본다.
+// 정확성은 uk_member_email 이 보장하므로 다른 노드의 가입이나 재적재 중 놓친 키는 INSERT 실패로 처리된다.
+// member.email 의 collation 이 대소문자를 가리지 않으므로 소문자로 넣는다.
+@Component
+public class EmailExistenceFilter implements WarmUpTask {
+    private static final Logger log = LoggerFactory.getLogger(EmailExistenceFilter.class);
+    private static final String LOAD_SQL = "SELECT id, email FROM member WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String CHECK_METRIC = "auth.signup.email.filter";
+
+    public enum Result {
+        ABSENT,
+        MAYBE,
+        EXISTS
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailExistenceFilterProperties properties;
+    private final Cache<String, Boolean> confirmed;
+    private final AtomicLong insertions = new AtomicLong();
+    private final Counter absentCounter;
+    private final Counter maybeCounter;
+    private final Counter existsCounter;
+    private volatile BloomFilter filter;
+    private volatile Set<String> addedDuringRebuild;
+    private volatile boolean ready;
+
+    public EmailExistenceFilter(
+            JdbcTemplate jdbcTemplate,
+            EmailExistenceFilterProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.confirmed = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(properties.getConfirmedTtlMinutes()))
+                .maximumSize(properties.getConfirmedMaximumSize())
+                .build();
+        this.filter = new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        this.absentCounter = Counter.builder(CHECK_METRIC).tag("result", "absent").register(meterRegistry);
+        this.maybeCounter = Counter.builder(CHECK_METRIC).tag("result", "maybe").register(meterRegistry);
+        this.existsCounter = Counter.builder(CHECK_METRIC).tag("result", "exists").register(meterRegistry);
+    }
+
+    public Result check(String email) {
+        String key = normalize(email);
+        if (confirmed.getIfPresent(key) != null) {
+            existsCounter.increment();
+            return Result.EXISTS;
+        }
+        // 적재 전에는 없다고 단정할 수 없다.
+        if (!ready || filter.mightContain(key)) {
+            maybeCounter.increment();
+            return Result.MAYBE;
+        }
+        absentCounter.increment();
+        return Result.ABSENT;
+    }
+
+    public void add(String email) {
+        put(normalize(email));
+    }
+
+    public void confirmExists(String email) {
+        String key = normalize(email);
+        confirmed.put(key, Boolean.TRUE);
+        put(key);
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild(properties.getExpectedInsertions());
+    }
+
+    @Override
+    public boolean isWarmedUp() {
+        return ready;
+    }
+
+    // 예상보다 많이 들어가 오탐률이 목표의 두 배를 넘으면 두 배 크기로 다시 적재한다.
+    @Scheduled(
+            initialDelayString = "${auth.email-filter.saturation-check-interval-ms:600000}",
+            fixedDelayString = "${auth.email-filter.saturation-check-interval-ms:600000}"
+    )
+    public void rebuildIfSaturated() {
+        if (ready && filter.expectedFalsePositiveRate() > properties.getFalsePositiveRate() * 2) {
+            rebuild(Math.max(properties.getExpectedInsertions(), insertions.get() * 2));
+        }
+    }
+
+    // 벤치마크와 테스트에서 DB 없이 적재할 때 쓴다.
+    void loadFrom(Iterable<String> emails) {
+        emails.forEach(this::add);
+        ready = true;
+    }
+
+    private synchronized void rebuild(long expectedInsertions) {
+        long start = System.nanoTime();
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        addedDuringRebuild = pending;
+        BloomFilter next = new BloomFilter(expectedInsertions, properties.getFalsePositiveRate());
+        long loaded = 0;
+        long afterId = 0;
+        while (true) {
+            List<IdEmail> chunk = jdbcTemplate.query(LOAD_SQL,
+                    (rs, rowNum) -> new IdEmail(rs.getLong("id"), rs.getString("email")),
+                    afterId, properties.getLoadChunkSize());
+            for (IdEmail row : chunk) {
+                next.put(normalize(row.email()));
+            }
+            loaded += chunk.size();
+            if (chunk.size() < properties.getLoadChunkSize()) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+        pending.forEach(next::put);
+        filter = next;
+        addedDuringRebuild = null;
+        // 교체 직전에 pending 에 들어간 키를 한 번 더 옮긴다. 그래도 놓친 키는 INSERT 실패로 걸러진다.
+        pending.forEach(next::put);
+        insertions.set(loaded + pending.size());
+        ready = true;
+        log.info("emailExistenceFilterLoaded emails={}, bitSize={}, durationMs={}",
+                loaded, next.bitSize(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void put(String key) {
+        Set<String> pending = addedDuringRebuild;
+        if (pending != null) {
+            pending.add(key);
+        }
+        filter.put(key);
+        insertions.incrementAndGet();
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private record IdEmail(long id, String email) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.studywithme.member.service;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "auth.email-filter")
+public class EmailExistenceFilterProperties {
+
+    @Min(1)
+    private long expectedInsertions = 1_000_000;
+
+    @DecimalMin("0.0001")
+    @DecimalMax("0.5")
+    private double falsePositiveRate = 0.01;
+
+    @Min(1)
+    private int loadChunkSize = 5_000;
+
+    // 중복으로 확인된 이메일. 같은 가입 요청이 반복될 때 DB 없이 거절한다.
+    @Min(1)
+    private long confirmedMaximumSize = 10_000;
+
+    @Min(1)
+    private long confirmedTtlMinutes = 10;
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    public void setLoadChunkSize(int loadChunkSize) {
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    public long getConfirmedMaximumSize() {
+        return confirmedMaximumSize;
+    }
+
+    public void setConfirmedMaximumSize(long confirmedMaximumSize) {
+        this.confirmedMaximumSize = confirmedMaximumSize;
+    }
+
+    public long getConfirmedTtlMinutes() {
+        return confirmedTtlMinutes;
+    }
+
+    public void setConfirmedTtlMinutes(long confirmedTtlMinutes) {
+        this.confirmedTtlMinutes = confirmedTtlMinutes;
+    }
+}
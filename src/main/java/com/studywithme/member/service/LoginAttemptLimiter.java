@@ -0,0 +1,370 @@
+package com.studywithme.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studywithme.global.startup.WarmUpTask;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 로그인 실패를 이메일/IP 별 토큰 버킷으로 메모리에서 판정한다. 실패 1회가 토큰 1개를 쓰고,
+// 버킷은 차단 시간 동안 가득 찬다. 버킷마다 자기 모니터로 잠그므로 동시 실패도 빠짐없이 센다.
+// - 이메일 버킷: 토큰이 바닥나면 block-minutes 동안 차단한다.
+// - IP 버킷: 차단하지 않고 토큰이 다시 찰 때만 시도를 받는다(감속). NAT 뒤 사용자가 10분씩 막히지 않는다.
+// login_attempt 는 재기동 복구와 노드 간 차단 공유용이다. 차단 전환만 즉시 쓰고 나머지는 모아서 비동기로 반영한다.
+// 실패 횟수는 노드마다 따로 세므로 차단까지의 실패는 최대 max-failures * 노드 수다. 차단 자체는
+// sync-interval-ms 마다 다른 노드로 퍼진다. IP 감속은 노드 단위다.
+// 제한 중인 버킷은 weight 0 이라 maximum-size 에 밀려 쫓겨나지 않는다.
+@Component
+public class LoginAttemptLimiter implements WarmUpTask {
+    private static final Logger log = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+
+    // 늦게 도착한 flush 가 더 긴 차단을 지우지 않도록 blocked_until 은 늘리기만 한다. 해제는 DELETE 로 한다.
+    private static final String UPSERT_SQL =
+            "INSERT INTO login_attempt (email, fail_count, blocked_until, last_failed_at) VALUES (?, ?, ?, ?)"
+                    + " ON DUPLICATE KEY UPDATE fail_count = VALUES(fail_count),"
+                    + " last_failed_at = VALUES(last_failed_at),"
+                    + " blocked_until = CASE WHEN blocked_until IS NULL OR blocked_until < VALUES(blocked_until)"
+                    + " THEN VALUES(blocked_until) ELSE blocked_until END";
+    private static final String DELETE_SQL = "DELETE FROM login_attempt WHERE email = ?";
+    private static final String RESTORE_SQL = "SELECT email, fail_count, blocked_until, last_failed_at, updated_at"
+            + " FROM login_attempt WHERE updated_at > ?";
+    private static final String BLOCKED_SQL = "SELECT COUNT(*) FROM login_attempt WHERE email = ? AND blocked_until > ?";
+    private static final String SYNC_BLOCKS_SQL = "SELECT email, blocked_until, updated_at FROM login_attempt"
+            + " WHERE updated_at > ? AND blocked_until > ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginAttemptProperties properties;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Set<String> dirtyEmails = ConcurrentHashMap.newKeySet();
+    private final Set<String> resetEmails = ConcurrentHashMap.newKeySet();
+    // login_attempt.updated_at 기준. 동기화 스레드에서만 바꾼다.
+    private volatile LocalDateTime watermark;
+    private volatile boolean restored;
+
+    public LoginAttemptLimiter(
+            JdbcTemplate jdbcTemplate,
+            LoginAttemptProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.emailBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(properties.getBlockMinutes()))
+                .maximumWeight(properties.getMaximumSize())
+                .weigher(LoginAttemptLimiter::weigh)
+                .build();
+        this.ipBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(properties.getIpBlockMinutes()))
+                .maximumWeight(properties.getMaximumSize())
+                .weigher(LoginAttemptLimiter::weigh)
+                .build();
+        Gauge.builder("auth.login.attempt.buckets", emailBuckets, Cache::estimatedSize)
+                .tag("key", "email")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.attempt.buckets", ipBuckets, Cache::estimatedSize)
+                .tag("key", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.attempt.pending", this, limiter -> limiter.dirtyEmails.size() + limiter.resetEmails.size())
+                .register(meterRegistry);
+    }
+
+    public boolean isBlocked(String email) {
+        TokenBucket emailBucket = emailBuckets.getIfPresent(email);
+        if (emailBucket != null && emailBucket.isBlocked(System.currentTimeMillis())) {
+            return true;
+        }
+        // 복구 전에는 재기동 전이나 다른 노드가 건 차단이 메모리에 없으므로 DB 를 본다.
+        return !restored && isBlockedInDatabase(email);
+    }
+
+    public boolean isThrottled(String clientIp) {
+        if (clientIp == null) {
+            return false;
+        }
+        TokenBucket ipBucket = ipBuckets.getIfPresent(clientIp);
+        return ipBucket != null && ipBucket.isDepleted(System.currentTimeMillis());
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (clientIp != null) {
+            TokenBucket ipBucket = ipBuckets.get(clientIp, key -> newIpBucket(now));
+            ipBucket.consume(now);
+            reweigh(ipBuckets, clientIp, ipBucket);
+        }
+        TokenBucket bucket = emailBuckets.get(email, key -> newEmailBucket(now));
+        resetEmails.remove(email);
+        boolean blockStarted = bucket.consume(now);
+        reweigh(emailBuckets, email, bucket);
+        if (blockStarted) {
+            persistBlock(email, bucket.snapshot(now));
+            return;
+        }
+        dirtyEmails.add(email);
+    }
+
+    // IP 버킷은 건드리지 않는다. 한 IP 에서 성공을 섞어 가며 다른 계정을 시도하는 경우를 막기 위해서다.
+    public void recordSuccess(String email) {
+        if (emailBuckets.asMap().remove(email) == null) {
+            return;
+        }
+        dirtyEmails.remove(email);
+        resetEmails.add(email);
+    }
+
+    // 기동 복구. 끝나기 전에는 isBlocked 가 DB 를 본다.
+    @Override
+    public synchronized void warmUp() {
+        long now = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.now().minusMinutes(properties.getBlockMinutes());
+        List<String> rows = jdbcTemplate.query(RESTORE_SQL, (rs, rowNum) -> {
+            String email = rs.getString("email");
+            Timestamp blockedUntil = rs.getTimestamp("blocked_until");
+            Timestamp lastFailedAt = rs.getTimestamp("last_failed_at");
+            TokenBucket bucket = newEmailBucket(lastFailedAt == null ? now : Math.min(now, lastFailedAt.getTime()));
+            bucket.restore(rs.getInt("fail_count"), blockedUntil == null ? 0 : blockedUntil.getTime());
+            emailBuckets.asMap().putIfAbsent(email, bucket);
+            advanceWatermark(rs.getTimestamp("updated_at"));
+            return email;
+        }, Timestamp.valueOf(since));
+        if (watermark == null) {
+            watermark = since;
+        }
+        restored = true;
+        log.info("loginAttemptRestored rows={}", rows.size());
+    }
+
+    @Override
+    public boolean isWarmedUp() {
+        return restored;
+    }
+
+    // 다른 노드가 건 차단을 가져온다. 실패 횟수는 가져오지 않는다.
+    @Scheduled(
+            initialDelayString = "${auth.login-attempt.sync-interval-ms:5000}",
+            fixedDelayString = "${auth.login-attempt.sync-interval-ms:5000}"
+    )
+    public synchronized void syncBlocks() {
+        long now = System.currentTimeMillis();
+        LocalDateTime from = watermark == null
+                ? LocalDateTime.now().minusMinutes(properties.getBlockMinutes())
+                : watermark.minusSeconds(properties.getSyncOverlapSeconds());
+        try {
+            jdbcTemplate.query(SYNC_BLOCKS_SQL, rs -> {
+                String email = rs.getString("email");
+                long blockedUntilMs = rs.getTimestamp("blocked_until").getTime();
+                TokenBucket bucket = emailBuckets.get(email, key -> newEmailBucket(now));
+                if (bucket.blockUntil(blockedUntilMs)) {
+                    reweigh(emailBuckets, email, bucket);
+                }
+                advanceWatermark(rs.getTimestamp("updated_at"));
+            }, Timestamp.valueOf(from), new Timestamp(now));
+            if (watermark == null) {
+                watermark = from;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("loginAttemptSyncFailed message={}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-attempt.flush-interval-ms:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<Object[]> deletes = new ArrayList<>();
+        for (String email : drain(resetEmails)) {
+            deletes.add(new Object[] {email});
+        }
+        List<Object[]> upserts = new ArrayList<>();
+        List<String> upserted = new ArrayList<>();
+        for (String email : drain(dirtyEmails)) {
+            TokenBucket bucket = emailBuckets.getIfPresent(email);
+            if (bucket != null) {
+                upserts.add(toRow(email, bucket.snapshot(now)));
+                upserted.add(email);
+            }
+        }
+        if (!deletes.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            } catch (RuntimeException ex) {
+                deletes.forEach(row -> resetEmails.add((String) row[0]));
+                log.warn("loginAttemptFlushFailed deletes={}", deletes.size(), ex);
+            }
+        }
+        if (!upserts.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, upserts);
+            } catch (RuntimeException ex) {
+                dirtyEmails.addAll(upserted);
+                log.warn("loginAttemptFlushFailed upserts={}", upserts.size(), ex);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    void cleanUp() {
+        emailBuckets.cleanUp();
+        ipBuckets.cleanUp();
+    }
+
+    // 차단은 재기동 직후에도 유지돼야 하므로 호출 스레드에서 바로 쓴다.
+    private boolean isBlockedInDatabase(String email) {
+        Integer blocked = jdbcTemplate.queryForObject(
+                BLOCKED_SQL, Integer.class, email, new Timestamp(System.currentTimeMillis()));
+        return blocked != null && blocked > 0;
+    }
+
+    private void persistBlock(String email, Snapshot snapshot) {
+        try {
+            jdbcTemplate.update(UPSERT_SQL, toRow(email, snapshot));
+            dirtyEmails.remove(email);
+        } catch (RuntimeException ex) {
+            dirtyEmails.add(email);
+            log.warn("loginAttemptBlockPersistFailed", ex);
+        }
+    }
+
+    private void advanceWatermark(Timestamp updatedAt) {
+        if (updatedAt == null) {
+            return;
+        }
+        LocalDateTime value = updatedAt.toLocalDateTime();
+        if (watermark == null || value.isAfter(watermark)) {
+            watermark = value;
+        }
+    }
+
+    // weight 는 쓸 때만 다시 계산되므로 상태가 바뀐 버킷은 같은 값으로 다시 넣는다.
+    private static void reweigh(Cache<String, TokenBucket> buckets, String key, TokenBucket bucket) {
+        buckets.asMap().replace(key, bucket, bucket);
+    }
+
+    private static int weigh(String key, TokenBucket bucket) {
+        return bucket.isLimited(System.currentTimeMillis()) ? 0 : 1;
+    }
+
+    private TokenBucket newEmailBucket(long now) {
+        long windowMs = TimeUnit.MINUTES.toMillis(properties.getBlockMinutes());
+        return new TokenBucket(properties.getMaxFailures(), windowMs, now);
+    }
+
+    private TokenBucket newIpBucket(long now) {
+        long windowMs = TimeUnit.MINUTES.toMillis(properties.getIpBlockMinutes());
+        return new TokenBucket(properties.getIpMaxFailures(), windowMs, now);
+    }
+
+    private static List<String> drain(Set<String> keys) {
+        List<String> drained = new ArrayList<>();
+        Iterator<String> iterator = keys.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private static Object[] toRow(String email, Snapshot snapshot) {
+        return new Object[] {
+                email,
+                snapshot.failCount(),
+                snapshot.blockedUntilMs() == 0 ? null : new Timestamp(snapshot.blockedUntilMs()),
+                snapshot.lastFailedAtMs() == 0 ? null : new Timestamp(snapshot.lastFailedAtMs())
+        };
+    }
+
+    record Snapshot(int failCount, long blockedUntilMs, long lastFailedAtMs) {
+    }
+
+    // capacity 개의 토큰이 windowMs 동안 선형으로 다시 찬다. 토큰이 1개 미만이 되면 windowMs 만큼 차단한다.
+    // IP 버킷은 차단 시각을 보지 않고 isDepleted 로 토큰만 본다.
+    static final class TokenBucket {
+        private final int capacity;
+        private final long windowMs;
+        private double tokens;
+        private long refilledAtMs;
+        private long blockedUntilMs;
+        private long lastFailedAtMs;
+
+        TokenBucket(int capacity, long windowMs, long now) {
+            this.capacity = capacity;
+            this.windowMs = windowMs;
+            this.tokens = capacity;
+            this.refilledAtMs = now;
+        }
+
+        synchronized boolean isBlocked(long now) {
+            return blockedUntilMs > now;
+        }
+
+        // 토큰이 1개 미만이면 다시 찰 때까지 시도를 받지 않는다.
+        synchronized boolean isDepleted(long now) {
+            refill(now);
+            return tokens < 1;
+        }
+
+        synchronized boolean isLimited(long now) {
+            return blockedUntilMs > now || tokens < 1;
+        }
+
+        // 더 긴 차단일 때만 바꾼다. 바뀌면 true
+        synchronized boolean blockUntil(long untilMs) {
+            if (untilMs <= blockedUntilMs) {
+                return false;
+            }
+            blockedUntilMs = untilMs;
+            return true;
+        }
+
+        // 이번 실패로 차단이 시작되면 true
+        synchronized boolean consume(long now) {
+            refill(now);
+            tokens = Math.max(0, tokens - 1);
+            lastFailedAtMs = now;
+            if (tokens < 1 && blockedUntilMs <= now) {
+                blockedUntilMs = now + windowMs;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized Snapshot snapshot(long now) {
+            refill(now);
+            int failCount = (int) Math.ceil(capacity - tokens - 1e-9);
+            return new Snapshot(Math.max(0, failCount), blockedUntilMs, lastFailedAtMs);
+        }
+
+        synchronized void restore(int failCount, long blockedUntilMs) {
+            this.tokens = Math.max(0, capacity - failCount);
+            this.blockedUntilMs = blockedUntilMs;
+            this.lastFailedAtMs = refilledAtMs;
+        }
+
+        private void refill(long now) {
+            if (now <= refilledAtMs) {
+                return;
+            }
+            tokens = Math.min(capacity, tokens + (now - refilledAtMs) * (double) capacity / windowMs);
+            refilledAtMs = now;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.studywithme.member.service;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "auth.login-attempt")
+public class LoginAttemptProperties {
+
+    // 이메일별 버킷 크기. 연속 실패가 이 값에 닿으면 차단한다.
+    @Min(1)
+    private int maxFailures = 5;
+
+    @Min(1)
+    private int blockMinutes = 10;
+
+    // 여러 계정을 돌려 가며 시도하는 경우를 늦추는 IP 별 버킷. 바닥나면 ip-block-minutes / ip-max-failures 마다 한 번만 받는다.
+    @Min(1)
+    private int ipMaxFailures = 50;
+
+    @Min(1)
+    private int ipBlockMinutes = 10;
+
+    @Min(1)
+    private long maximumSize = 100_000;
+
+    @Min(100)
+    private long flushIntervalMs = 1_000;
+
+    // 다른 노드가 건 차단이 이 간격 안에 퍼진다.
+    @Min(100)
+    private long syncIntervalMs = 5_000;
+
+    // 커밋 순서와 updated_at 순서가 어긋나 놓치는 행이 없도록 watermark 보다 이만큼 앞에서부터 읽는다.
+    @Min(0)
+    private long syncOverlapSeconds = 5;
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public void setMaxFailures(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+
+    public int getBlockMinutes() {
+        return blockMinutes;
+    }
+
+    public void setBlockMinutes(int blockMinutes) {
+        this.blockMinutes = blockMinutes;
+    }
+
+    public int getIpMaxFailures() {
+        return ipMaxFailures;
+    }
+
+    public void setIpMaxFailures(int ipMaxFailures) {
+        this.ipMaxFailures = ipMaxFailures;
+    }
+
+    public int getIpBlockMinutes() {
+        return ipBlockMinutes;
+    }
+
+    public void setIpBlockMinutes(int ipBlockMinutes) {
+        this.ipBlockMinutes = ipBlockMinutes;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public long getSyncIntervalMs() {
+        return syncIntervalMs;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+        this.syncIntervalMs = syncIntervalMs;
+    }
+
+    public long getSyncOverlapSeconds() {
+        return syncOverlapSeconds;
+    }
+
+    public void setSyncOverlapSeconds(long syncOverlapSeconds) {
+        this.syncOverlapSeconds = syncOverlapSeconds;
+    }
+}
@@ -1,8 +1,12 @@
 package com.studywithme.member.service;
 
+import com.studywithme.global.audit.AuditEvent;
+import com.studywithme.global.audit.AuditEventPublisher;
 import com.studywithme.global.exception.ApiException;
 import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.global.security.SecurityUtils;
 import com.studywithme.member.domain.Member;
+import com.studywithme.member.domain.MemberStatus;
 import com.studywithme.member.dto.MemberMeResponse;
 import com.studywithme.member.repository.MemberRepository;
 import org.springframework.stereotype.Service;
@@ -12,9 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final MemberStatusCache memberStatusCache;
+    private final AuditEventPublisher auditEventPublisher;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(
+            MemberRepository memberRepository,
+            MemberStatusCache memberStatusCache,
+            AuditEventPublisher auditEventPublisher
+    ) {
         this.memberRepository = memberRepository;
+        this.memberStatusCache = memberStatusCache;
+        this.auditEventPublisher = auditEventPublisher;
     }
 
     public MemberMeResponse getMe(Long memberId) {
@@ -28,4 +40,21 @@ public class MemberService {
                 member.getStatus()
         );
     }
+
+    @Transactional
+    public void changeStatus(Long memberId, MemberStatus status) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ApiException(ErrorCode.MEMBER_NOT_FOUND));
+        MemberStatus before = member.getStatus();
+        member.changeStatus(status);
+        memberStatusCache.evictAfterCommit(memberId);
+        auditEventPublisher.publish(AuditEvent.of(
+                SecurityUtils.currentMemberIdOrNull(),
+                "MEMBER_STATUS_CHANGED",
+                "MEMBER",
+                memberId,
+                before.name(),
+                status.name()
+        ));
+    }
 }
@@ -0,0 +1,61 @@
+package com.studywithme.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 인증 필터가 요청마다 회원 상태를 DB에서 조회하지 않도록 상태만 짧게 캐싱한다.
+// 상태 변경 시 evict 하며, 다른 노드에서의 변경은 TTL 안에 반영된다.
+@Component
+public class MemberStatusCache {
+    private static final String CACHE_NAME = "memberStatus";
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberStatus> cache;
+
+    public MemberStatusCache(
+            MemberRepository memberRepository,
+            MemberStatusCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<MemberStatus> getStatus(Long memberId) {
+        // 존재하지 않는 회원은 캐싱하지 않는다.
+        MemberStatus status = cache.get(memberId, id -> memberRepository.findStatusById(id).orElse(null));
+        return Optional.ofNullable(status);
+    }
+
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+    }
+
+    public void evictAfterCommit(Long memberId) {
+        evict(memberId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // 커밋 전에 다른 요청이 이전 상태를 다시 적재할 수 있으므로 커밋 후 한 번 더 비운다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(memberId);
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.studywithme.review.domain;
+
+// 리뷰 작성/수정/삭제 시 발행한다. 작성은 previousRating 이 null, 삭제는 newRating 이 null 이다.
+// reviewId 는 재구성 중 들어온 변경이 스냅샷에 이미 들어 있는지 가려내는 데 쓴다.
+public record ReviewRatingChangedEvent(
+        Long studyId,
+        Long reviewId,
+        Integer previousRating,
+        Integer newRating
+) {
+    public static ReviewRatingChangedEvent created(Long studyId, Long reviewId, int rating) {
+        return new ReviewRatingChangedEvent(studyId, reviewId, null, rating);
+    }
+
+    public static ReviewRatingChangedEvent changed(Long studyId, Long reviewId, int previousRating, int newRating) {
+        return new ReviewRatingChangedEvent(studyId, reviewId, previousRating, newRating);
+    }
+
+    public static ReviewRatingChangedEvent deleted(Long studyId, Long reviewId, int previousRating) {
+        return new ReviewRatingChangedEvent(studyId, reviewId, previousRating, null);
+    }
+}
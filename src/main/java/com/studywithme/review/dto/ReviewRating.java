@@ -0,0 +1,8 @@
+package com.studywithme.review.dto;
+
+public record ReviewRating(
+        Long reviewId,
+        Long studyId,
+        int rating
+) {
+}
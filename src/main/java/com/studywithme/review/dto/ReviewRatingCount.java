@@ -0,0 +1,8 @@
+package com.studywithme.review.dto;
+
+public record ReviewRatingCount(
+        Long studyId,
+        int rating,
+        long count
+) {
+}
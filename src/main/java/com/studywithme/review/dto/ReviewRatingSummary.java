@@ -0,0 +1,12 @@
+package com.studywithme.review.dto;
+
+import java.util.List;
+
+// histogram 은 1점부터 5점까지 순서대로 개수
+public record ReviewRatingSummary(
+        long count,
+        double average,
+        List<Long> histogram
+) {
+    public static final ReviewRatingSummary EMPTY = new ReviewRatingSummary(0, 0.0, List.of(0L, 0L, 0L, 0L, 0L));
+}
@@ -0,0 +1,18 @@
+package com.studywithme.review.repository;
+
+import com.studywithme.review.dto.ReviewRating;
+import com.studywithme.review.dto.ReviewRatingCount;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface ReviewRatingMapper {
+
+    List<ReviewRatingCount> countByStudyAndRating();
+
+    List<ReviewRatingCount> countByStudy(@Param("studyId") Long studyId);
+
+    List<ReviewRating> findRatingsByIds(@Param("ids") Collection<Long> ids);
+}
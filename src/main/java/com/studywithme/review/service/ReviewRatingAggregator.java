@@ -0,0 +1,241 @@
+package com.studywithme.review.service;
+
+import com.studywithme.global.startup.WarmUpTask;
+import com.studywithme.review.domain.ReviewRatingChangedEvent;
+import com.studywithme.review.dto.ReviewRating;
+import com.studywithme.review.dto.ReviewRatingCount;
+import com.studywithme.review.dto.ReviewRatingSummary;
+import com.studywithme.review.repository.ReviewRatingMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 스터디별 평점 분포(1~5점 개수)를 메모리에 두고 리뷰 변경 이벤트로 증분 갱신한다.
+// 목록 화면은 집계 쿼리 없이 getSummary 로 O(1) 에 읽는다. 첫 적재 전에는 그 스터디만 DB 에서 집계한다.
+// 주기적 재구성으로 다른 노드의 변경과 누락분을 맞춘다. 재구성 중 들어온 변경은 모아 두었다가,
+// 같은 REPEATABLE READ 스냅샷으로 해당 리뷰의 평점을 읽어 스냅샷에 없는 만큼만 새 집계에 반영한다.
+@Component
+public class ReviewRatingAggregator implements WarmUpTask {
+    private static final Logger log = LoggerFactory.getLogger(ReviewRatingAggregator.class);
+    private static final int BUCKETS = 5;
+
+    private final ReviewRatingMapper reviewRatingMapper;
+    private final TransactionTemplate snapshotTransaction;
+    private final AtomicLong lastRebuildDrift = new AtomicLong();
+    private final Object swapLock = new Object();
+    private final Queue<ReviewRatingChangedEvent> changesDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile Map<Long, AtomicLongArray> histograms = new ConcurrentHashMap<>();
+    private volatile boolean rebuilding;
+    private volatile boolean initialized;
+
+    public ReviewRatingAggregator(
+            ReviewRatingMapper reviewRatingMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.reviewRatingMapper = reviewRatingMapper;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Gauge.builder("review.rating.studies", this, aggregator -> aggregator.histograms.size())
+                .register(meterRegistry);
+        Gauge.builder("review.rating.rebuild.drift", lastRebuildDrift, AtomicLong::get)
+                .description("studies whose incremental aggregate differed from the last rebuild")
+                .register(meterRegistry);
+    }
+
+    public ReviewRatingSummary getSummary(Long studyId) {
+        if (!initialized) {
+            return loadSummary(studyId);
+        }
+        AtomicLongArray histogram = histograms.get(studyId);
+        if (histogram == null) {
+            return ReviewRatingSummary.EMPTY;
+        }
+        long[] buckets = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = histogram.get(i);
+        }
+        return summarize(buckets);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRatingChanged(ReviewRatingChangedEvent event) {
+        if (rebuilding) {
+            synchronized (swapLock) {
+                if (rebuilding) {
+                    // 읽기가 늦지 않도록 기존 집계에도 반영하고, 교체 시 스냅샷과 맞춰 새 집계에 반영한다.
+                    apply(histograms, event);
+                    changesDuringRebuild.add(event);
+                    return;
+                }
+            }
+        }
+        apply(histograms, event);
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Override
+    public boolean isWarmedUp() {
+        return initialized;
+    }
+
+    @Scheduled(
+            initialDelayString = "${review.rating.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${review.rating.rebuild-interval-ms:3600000}"
+    )
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        changesDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            Map<Long, AtomicLongArray> rebuilt = snapshotTransaction.execute(status -> rebuildFromSnapshot());
+            initialized = true;
+            log.info("reviewRatingRebuild studies={}, drift={}, durationMs={}",
+                    rebuilt.size(), lastRebuildDrift.get(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            log.warn("reviewRatingRebuildFailed message={}", ex.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            }
+        }
+    }
+
+    // 집계 쿼리와 리뷰 조회가 같은 트랜잭션 스냅샷을 봐야 한다.
+    private Map<Long, AtomicLongArray> rebuildFromSnapshot() {
+        Map<Long, AtomicLongArray> rebuilt = new ConcurrentHashMap<>();
+        for (ReviewRatingCount row : reviewRatingMapper.countByStudyAndRating()) {
+            if (row.rating() >= 1 && row.rating() <= BUCKETS) {
+                histogram(rebuilt, row.studyId()).addAndGet(row.rating() - 1, row.count());
+            }
+        }
+        long drift = initialized ? countDrift(histograms, rebuilt) : 0;
+        synchronized (swapLock) {
+            // 잠금 안에서는 새 변경이 쌓이지 않으므로 여기서 본 목록이 재구성 중 변경의 전부다.
+            reconcile(rebuilt, drainChangesDuringRebuild());
+            histograms = rebuilt;
+            rebuilding = false;
+        }
+        lastRebuildDrift.set(drift);
+        return rebuilt;
+    }
+
+    // 리뷰별로 스냅샷의 평점을 빼고 마지막 이벤트의 평점을 더한다.
+    // 스냅샷이 그 리뷰의 변경을 어디까지 담았든 결과는 마지막 상태 하나로 같아서, 이미 반영된 변경을 두 번 세지 않는다.
+    private void reconcile(Map<Long, AtomicLongArray> rebuilt, List<ReviewRatingChangedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<Long, ReviewRatingChangedEvent> latest = new LinkedHashMap<>();
+        for (ReviewRatingChangedEvent event : events) {
+            latest.put(event.reviewId(), event);
+        }
+        for (ReviewRating snapshot : reviewRatingMapper.findRatingsByIds(latest.keySet())) {
+            if (snapshot.rating() >= 1 && snapshot.rating() <= BUCKETS) {
+                histogram(rebuilt, snapshot.studyId()).decrementAndGet(snapshot.rating() - 1);
+            }
+        }
+        for (ReviewRatingChangedEvent event : latest.values()) {
+            if (event.newRating() != null) {
+                histogram(rebuilt, event.studyId()).incrementAndGet(event.newRating() - 1);
+            }
+        }
+    }
+
+    private List<ReviewRatingChangedEvent> drainChangesDuringRebuild() {
+        List<ReviewRatingChangedEvent> events = new ArrayList<>();
+        ReviewRatingChangedEvent event;
+        while ((event = changesDuringRebuild.poll()) != null) {
+            events.add(event);
+        }
+        return events;
+    }
+
+    private ReviewRatingSummary loadSummary(Long studyId) {
+        long[] buckets = new long[BUCKETS];
+        for (ReviewRatingCount row : reviewRatingMapper.countByStudy(studyId)) {
+            if (row.rating() >= 1 && row.rating() <= BUCKETS) {
+                buckets[row.rating() - 1] = row.count();
+            }
+        }
+        return summarize(buckets);
+    }
+
+    private static ReviewRatingSummary summarize(long[] histogram) {
+        long count = 0;
+        long sum = 0;
+        Long[] buckets = new Long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucket = histogram[i];
+            buckets[i] = bucket;
+            count += bucket;
+            sum += bucket * (i + 1);
+        }
+        if (count == 0) {
+            return ReviewRatingSummary.EMPTY;
+        }
+        return new ReviewRatingSummary(count, (double) sum / count, List.of(buckets));
+    }
+
+    private static void apply(Map<Long, AtomicLongArray> target, ReviewRatingChangedEvent event) {
+        AtomicLongArray histogram = histogram(target, event.studyId());
+        if (event.previousRating() != null) {
+            histogram.decrementAndGet(event.previousRating() - 1);
+        }
+        if (event.newRating() != null) {
+            histogram.incrementAndGet(event.newRating() - 1);
+        }
+    }
+
+    private static AtomicLongArray histogram(Map<Long, AtomicLongArray> target, Long studyId) {
+        return target.computeIfAbsent(studyId, id -> new AtomicLongArray(BUCKETS));
+    }
+
+    private static long countDrift(Map<Long, AtomicLongArray> current, Map<Long, AtomicLongArray> rebuilt) {
+        long drift = 0;
+        for (Map.Entry<Long, AtomicLongArray> entry : rebuilt.entrySet()) {
+            AtomicLongArray existing = current.get(entry.getKey());
+            if (existing == null || !existing.toString().equals(entry.getValue().toString())) {
+                drift++;
+            }
+        }
+        for (Long studyId : current.keySet()) {
+            if (!rebuilt.containsKey(studyId) && !isEmpty(current.get(studyId))) {
+                drift++;
+            }
+        }
+        return drift;
+    }
+
+    private static boolean isEmpty(AtomicLongArray histogram) {
+        for (int i = 0; i < BUCKETS; i++) {
+            if (histogram.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package com.studywithme.study.controller;
+
+import com.studywithme.global.response.ApiResponse;
+import com.studywithme.global.response.CursorPageResponse;
+import com.studywithme.global.security.SecurityUtils;
+import com.studywithme.study.dto.ApplicationResponse;
+import com.studywithme.study.dto.StudySearchRequest;
+import com.studywithme.study.dto.StudySummaryResponse;
+import com.studywithme.study.dto.StudyTextSearchRequest;
+import com.studywithme.study.service.StudyApplicationService;
+import com.studywithme.study.service.StudySearchService;
+import com.studywithme.study.service.StudyTextSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Study")
+@RestController
+@RequestMapping("/studies")
+public class StudyController {
+    private final StudySearchService studySearchService;
+    private final StudyTextSearchService studyTextSearchService;
+    private final StudyApplicationService studyApplicationService;
+
+    public StudyController(
+            StudySearchService studySearchService,
+            StudyTextSearchService studyTextSearchService,
+            StudyApplicationService studyApplicationService
+    ) {
+        this.studySearchService = studySearchService;
+        this.studyTextSearchService = studyTextSearchService;
+        this.studyApplicationService = studyApplicationService;
+    }
+
+    @Operation(summary = "스터디 목록 검색")
+    @GetMapping
+    public ApiResponse<CursorPageResponse<StudySummaryResponse>> search(@Valid @ModelAttribute StudySearchRequest request) {
+        return ApiResponse.success(studySearchService.search(request));
+    }
+
+    @Operation(summary = "스터디 제목/소개 검색")
+    @GetMapping("/search")
+    public ApiResponse<List<StudySummaryResponse>> searchText(@Valid @ModelAttribute StudyTextSearchRequest request) {
+        return ApiResponse.success(studyTextSearchService.search(request));
+    }
+
+    @Operation(summary = "스터디 참가 신청")
+    @PostMapping("/{studyId}/applications")
+    public ApiResponse<ApplicationResponse> apply(@PathVariable Long studyId) {
+        return ApiResponse.success(studyApplicationService.apply(studyId, SecurityUtils.currentMemberId()));
+    }
+
+    @Operation(summary = "스터디 참가 신청 취소")
+    @DeleteMapping("/{studyId}/applications/me")
+    public ApiResponse<ApplicationResponse> cancel(@PathVariable Long studyId) {
+        return ApiResponse.success(studyApplicationService.cancel(studyId, SecurityUtils.currentMemberId()));
+    }
+}
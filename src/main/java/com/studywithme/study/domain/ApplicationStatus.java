@@ -0,0 +1,6 @@
+package com.studywithme.study.domain;
+
+public enum ApplicationStatus {
+    CONFIRMED,
+    CANCELED
+}
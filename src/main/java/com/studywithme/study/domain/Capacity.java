@@ -0,0 +1,50 @@
+package com.studywithme.study.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+// remain 은 CapacityRepository 의 조건부 UPDATE 로만 바꾼다. 엔티티를 읽고 고쳐 쓰면 동시 신청에서 덮어쓴다.
+@Entity
+@Table(name = "capacity")
+public class Capacity {
+
+    @Id
+    @Column(name = "study_id")
+    private Long studyId;
+
+    @Column(nullable = false)
+    private int total;
+
+    @Column(nullable = false)
+    private int remain;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    protected Capacity() {
+    }
+
+    public Capacity(Long studyId, int total) {
+        this.studyId = studyId;
+        this.total = total;
+        this.remain = total;
+    }
+
+    public Long getStudyId() {
+        return studyId;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getRemain() {
+        return remain;
+    }
+}
@@ -0,0 +1,5 @@
+package com.studywithme.study.domain;
+
+// 스터디 생성/수정/모집 마감 등 검색·목록에 보이는 값이 바뀌면 커밋 전에 발행한다.
+public record StudyChangedEvent(Long studyId) {
+}
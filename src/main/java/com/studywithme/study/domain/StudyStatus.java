@@ -0,0 +1,10 @@
+package com.studywithme.study.domain;
+
+public enum StudyStatus {
+    RECRUITING,
+    RECRUIT_CLOSED,
+    IN_PROGRESS,
+    COMPLETED,
+    CANCELED,
+    HIDDEN
+}
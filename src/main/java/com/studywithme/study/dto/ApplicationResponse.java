@@ -0,0 +1,9 @@
+package com.studywithme.study.dto;
+
+import com.studywithme.study.domain.ApplicationStatus;
+
+public record ApplicationResponse(
+        Long studyId,
+        ApplicationStatus status
+) {
+}
@@ -0,0 +1,118 @@
+package com.studywithme.study.dto;
+
+import com.studywithme.study.domain.StudyStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+
+// 쿼리 파라미터 바인딩과 MyBatis 파라미터로 함께 쓰므로 getter/setter 를 둔다.
+public class StudySearchRequest {
+
+    private StudyStatus status = StudyStatus.RECRUITING;
+
+    private String category;
+
+    private String level;
+
+    private Boolean online;
+
+    private String region;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime recruitEndFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime recruitEndTo;
+
+    // 이전 페이지 마지막 항목의 id. 없으면 첫 페이지.
+    @Min(1)
+    private Long cursor;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    // 첫 페이지에서만 계산한다.
+    private boolean includeTotal;
+
+    public StudyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(StudyStatus status) {
+        this.status = status;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public void setLevel(String level) {
+        this.level = level;
+    }
+
+    public Boolean getOnline() {
+        return online;
+    }
+
+    public void setOnline(Boolean online) {
+        this.online = online;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public LocalDateTime getRecruitEndFrom() {
+        return recruitEndFrom;
+    }
+
+    public void setRecruitEndFrom(LocalDateTime recruitEndFrom) {
+        this.recruitEndFrom = recruitEndFrom;
+    }
+
+    public LocalDateTime getRecruitEndTo() {
+        return recruitEndTo;
+    }
+
+    public void setRecruitEndTo(LocalDateTime recruitEndTo) {
+        this.recruitEndTo = recruitEndTo;
+    }
+
+    public Long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(Long cursor) {
+        this.cursor = cursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isIncludeTotal() {
+        return includeTotal;
+    }
+
+    public void setIncludeTotal(boolean includeTotal) {
+        this.includeTotal = includeTotal;
+    }
+}
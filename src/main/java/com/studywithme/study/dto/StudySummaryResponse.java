@@ -0,0 +1,42 @@
+package com.studywithme.study.dto;
+
+import com.studywithme.review.dto.ReviewRatingSummary;
+import com.studywithme.study.domain.StudyStatus;
+import java.time.LocalDateTime;
+
+public record StudySummaryResponse(
+        Long id,
+        Long leaderId,
+        String title,
+        String category,
+        String level,
+        boolean online,
+        String region,
+        LocalDateTime recruitEndAt,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        StudyStatus status,
+        ReviewRatingSummary rating
+) {
+    // MyBatis 매핑용. rating 은 ReviewRatingAggregator 에서 채운다.
+    public StudySummaryResponse(
+            Long id,
+            Long leaderId,
+            String title,
+            String category,
+            String level,
+            boolean online,
+            String region,
+            LocalDateTime recruitEndAt,
+            LocalDateTime startAt,
+            LocalDateTime endAt,
+            StudyStatus status
+    ) {
+        this(id, leaderId, title, category, level, online, region, recruitEndAt, startAt, endAt, status, null);
+    }
+
+    public StudySummaryResponse withRating(ReviewRatingSummary rating) {
+        return new StudySummaryResponse(
+                id, leaderId, title, category, level, online, region, recruitEndAt, startAt, endAt, status, rating);
+    }
+}
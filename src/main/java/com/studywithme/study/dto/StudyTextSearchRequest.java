@@ -0,0 +1,23 @@
+package com.studywithme.study.dto;
+
+import com.studywithme.study.domain.StudyStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record StudyTextSearchRequest(
+        @NotBlank
+        @Size(max = 100)
+        String q,
+        StudyStatus status,
+        String category,
+        String region,
+        @Min(1)
+        @Max(50)
+        Integer size
+) {
+    public int sizeOrDefault() {
+        return size == null ? 20 : size;
+    }
+}
@@ -0,0 +1,23 @@
+package com.studywithme.study.repository;
+
+import com.studywithme.study.domain.Capacity;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CapacityRepository extends JpaRepository<Capacity, Long> {
+
+    @Query("select c.remain from Capacity c where c.studyId = :studyId")
+    Optional<Integer> findRemainByStudyId(@Param("studyId") Long studyId);
+
+    // 읽기 없이 한 문장으로 차감한다. 0 이면 정원이 없거나 스터디가 없다.
+    @Modifying
+    @Query("update Capacity c set c.remain = c.remain - 1 where c.studyId = :studyId and c.remain > 0")
+    int decrementRemain(@Param("studyId") Long studyId);
+
+    @Modifying
+    @Query("update Capacity c set c.remain = c.remain + 1 where c.studyId = :studyId and c.remain < c.total")
+    int incrementRemain(@Param("studyId") Long studyId);
+}
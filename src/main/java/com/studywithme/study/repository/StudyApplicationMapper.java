@@ -0,0 +1,17 @@
+package com.studywithme.study.repository;
+
+import com.studywithme.study.domain.ApplicationStatus;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface StudyApplicationMapper {
+
+    int insert(@Param("studyId") Long studyId, @Param("memberId") Long memberId);
+
+    int reapply(@Param("studyId") Long studyId, @Param("memberId") Long memberId);
+
+    int cancel(@Param("studyId") Long studyId, @Param("memberId") Long memberId);
+
+    ApplicationStatus findStatus(@Param("studyId") Long studyId, @Param("memberId") Long memberId);
+}
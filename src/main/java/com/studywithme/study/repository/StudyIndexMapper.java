@@ -0,0 +1,18 @@
+package com.studywithme.study.repository;
+
+import com.studywithme.study.search.StudyDocument;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface StudyIndexMapper {
+
+    List<StudyDocument> findAfter(
+            @Param("afterId") long afterId,
+            @Param("limit") int limit,
+            @Param("maxDescriptionChars") int maxDescriptionChars
+    );
+
+    StudyDocument findById(@Param("id") Long id, @Param("maxDescriptionChars") int maxDescriptionChars);
+}
@@ -0,0 +1,23 @@
+package com.studywithme.study.repository;
+
+import com.studywithme.study.schedule.StudyRecruitmentDeadline;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface StudyRecruitmentMapper {
+
+    List<Long> findOverdueIds(@Param("now") LocalDateTime now, @Param("afterId") long afterId, @Param("limit") int limit);
+
+    List<StudyRecruitmentDeadline> findRecruitingAfter(
+            @Param("afterRecruitEndAt") LocalDateTime afterRecruitEndAt,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    StudyRecruitmentDeadline findById(@Param("id") Long id);
+
+    int closeRecruitment(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package com.studywithme.study.repository;
+
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.dto.StudySearchRequest;
+import com.studywithme.study.dto.StudySummaryResponse;
+import java.util.List;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface StudySearchMapper {
+
+    List<StudySummaryResponse> search(@Param("request") StudySearchRequest request, @Param("limit") int limit);
+
+    long count(@Param("request") StudySearchRequest request);
+
+    List<StudySummaryResponse> findByIds(@Param("ids") List<Long> ids);
+
+    List<StudySummaryResponse> searchByTitle(
+            @Param("keyword") String keyword,
+            @Param("status") StudyStatus status,
+            @Param("category") String category,
+            @Param("region") String region,
+            @Param("limit") int limit
+    );
+}
@@ -0,0 +1,207 @@
+package com.studywithme.study.schedule;
+
+import com.studywithme.global.startup.WarmUpTask;
+import com.studywithme.global.util.HierarchicalTimingWheel;
+import com.studywithme.study.domain.StudyChangedEvent;
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.repository.StudyRecruitmentMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 모집 마감 시각에 RECRUITING 스터디를 RECRUIT_CLOSED 로 바꾼다.
+// 기동 시 밀린 마감을 먼저 닫고, 남은 RECRUITING 스터디를 타이밍 휠에 올린 뒤 tick 마다 만료분만 처리한다.
+// 여러 노드가 같은 스터디를 닫아도 UPDATE 조건(status, recruit_end_at)으로 한 번만 반영된다.
+@Component
+public class StudyRecruitmentCloser implements WarmUpTask {
+    private static final Logger log = LoggerFactory.getLogger(StudyRecruitmentCloser.class);
+
+    private final StudyRecruitmentMapper studyRecruitmentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudyRecruitmentProperties properties;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Counter closedCounter;
+    private final Counter failedCounter;
+    private final Counter notifyFailedCounter;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recruitment-closer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean started;
+
+    public StudyRecruitmentCloser(
+            StudyRecruitmentMapper studyRecruitmentMapper,
+            ApplicationEventPublisher eventPublisher,
+            StudyRecruitmentProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.studyRecruitmentMapper = studyRecruitmentMapper;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.wheel = new HierarchicalTimingWheel<>(
+                properties.getTickMs(), properties.getWheelSize(), System.currentTimeMillis());
+        this.closedCounter = Counter.builder("study.recruitment.closed").register(meterRegistry);
+        this.failedCounter = Counter.builder("study.recruitment.close.failures").register(meterRegistry);
+        this.notifyFailedCounter = Counter.builder("study.recruitment.notify.failures").register(meterRegistry);
+        Gauge.builder("study.recruitment.scheduled", wheel, HierarchicalTimingWheel::size).register(meterRegistry);
+    }
+
+    // StartupWarmUp 이 호출한다. 실패하면 다시 불릴 수 있으므로 tick 은 마지막에 한 번만 건다.
+    @Override
+    public synchronized void warmUp() {
+        if (!properties.isEnabled() || started) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int caughtUp = catchUp(now);
+        int loaded = load(now);
+        log.info("studyRecruitmentCloserStarted caughtUp={}, scheduled={}", caughtUp, loaded);
+        ticker.scheduleWithFixedDelay(this::tick, properties.getTickMs(), properties.getTickMs(), TimeUnit.MILLISECONDS);
+        started = true;
+    }
+
+    @Override
+    public boolean isWarmedUp() {
+        return !properties.isEnabled() || started;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    // 마감 시각이 바뀌거나 상태가 바뀐 스터디를 휠에 다시 반영한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        StudyRecruitmentDeadline deadline = studyRecruitmentMapper.findById(event.studyId());
+        if (deadline == null || deadline.status() != StudyStatus.RECRUITING) {
+            wheel.cancel(event.studyId());
+            return;
+        }
+        schedule(deadline);
+    }
+
+    void tick() {
+        try {
+            List<Long> due = wheel.advance(System.currentTimeMillis());
+            if (!due.isEmpty()) {
+                close(due);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("studyRecruitmentTickFailed", ex);
+        }
+    }
+
+    // load 는 마감이 남은 행만 읽으므로, 여기서 지난 행을 모두 닫거나 휠에 올려야 한다.
+    private int catchUp(LocalDateTime now) {
+        int closed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> overdue = studyRecruitmentMapper.findOverdueIds(now, afterId, properties.getBatchSize());
+            if (overdue.isEmpty()) {
+                return closed;
+            }
+            int updated = closeBatch(overdue, now);
+            if (updated < 0) {
+                // 닫지 못한 쪽은 tick 재시도에 맡기고 다음 쪽을 계속 읽는다.
+                overdue.forEach(this::retryLater);
+            } else {
+                closed += updated;
+            }
+            if (overdue.size() < properties.getBatchSize()) {
+                return closed;
+            }
+            afterId = overdue.get(overdue.size() - 1);
+        }
+    }
+
+    private int load(LocalDateTime after) {
+        LocalDateTime afterRecruitEndAt = after;
+        long afterId = 0;
+        int loaded = 0;
+        while (true) {
+            List<StudyRecruitmentDeadline> chunk = studyRecruitmentMapper.findRecruitingAfter(
+                    afterRecruitEndAt, afterId, properties.getLoadChunkSize());
+            chunk.forEach(this::schedule);
+            loaded += chunk.size();
+            if (chunk.size() < properties.getLoadChunkSize()) {
+                return loaded;
+            }
+            StudyRecruitmentDeadline last = chunk.get(chunk.size() - 1);
+            afterRecruitEndAt = last.recruitEndAt();
+            afterId = last.id();
+        }
+    }
+
+    private void schedule(StudyRecruitmentDeadline deadline) {
+        long deadlineMs = toEpochMillis(deadline.recruitEndAt());
+        if (!wheel.schedule(deadline.id(), deadlineMs)) {
+            // 이미 지난 마감은 다음 tick 에 바로 닫히도록 한 칸 뒤에 둔다.
+            wheel.schedule(deadline.id(), System.currentTimeMillis() + properties.getTickMs());
+        }
+    }
+
+    private void close(List<Long> due) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < due.size(); from += properties.getBatchSize()) {
+            List<Long> batch = due.subList(from, Math.min(due.size(), from + properties.getBatchSize()));
+            if (closeBatch(batch, now) < 0) {
+                batch.forEach(this::retryLater);
+            }
+        }
+    }
+
+    // 반영된 행 수. 실패하면 -1
+    private int closeBatch(List<Long> ids, LocalDateTime now) {
+        int updated;
+        try {
+            updated = studyRecruitmentMapper.closeRecruitment(ids, now);
+        } catch (RuntimeException ex) {
+            failedCounter.increment(ids.size());
+            log.warn("studyRecruitmentCloseFailed size={}", ids.size(), ex);
+            return -1;
+        }
+        closedCounter.increment(updated);
+        // 조건에 걸러진 행도 있으므로 전부 다시 읽게 한다. 연장된 마감은 onStudyChanged 에서 다시 잡힌다.
+        ids.forEach(this::publishChanged);
+        return updated;
+    }
+
+    // 리스너는 이 스레드에서 동기로 돈다. 하나가 실패해도 남은 id 와 뒤 배치는 계속 처리한다.
+    // 닫기는 이미 커밋됐으므로 다시 닫지 않고, 색인 등은 각자의 주기 재구성에서 맞춰진다.
+    private void publishChanged(Long studyId) {
+        try {
+            eventPublisher.publishEvent(new StudyChangedEvent(studyId));
+        } catch (RuntimeException ex) {
+            notifyFailedCounter.increment();
+            log.warn("studyRecruitmentNotifyFailed studyId={}", studyId, ex);
+        }
+    }
+
+    private void retryLater(Long studyId) {
+        wheel.schedule(studyId, System.currentTimeMillis() + properties.getRetryDelayMs());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.toEpochMilli();
+    }
+}
@@ -0,0 +1,11 @@
+package com.studywithme.study.schedule;
+
+import com.studywithme.study.domain.StudyStatus;
+import java.time.LocalDateTime;
+
+public record StudyRecruitmentDeadline(
+        Long id,
+        StudyStatus status,
+        LocalDateTime recruitEndAt
+) {
+}
@@ -0,0 +1,77 @@
+package com.studywithme.study.schedule;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "study.recruitment")
+public class StudyRecruitmentProperties {
+
+    private boolean enabled = true;
+
+    // 가장 아래 휠의 한 칸. 마감 처리 오차의 상한이다.
+    @Min(10)
+    private long tickMs = 100;
+
+    @Min(2)
+    private int wheelSize = 60;
+
+    @Min(1)
+    private int batchSize = 200;
+
+    @Min(1)
+    private int loadChunkSize = 1_000;
+
+    // UPDATE 가 실패한 스터디를 다시 시도하기까지의 간격
+    @Min(100)
+    private long retryDelayMs = 5_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    public void setTickMs(long tickMs) {
+        this.tickMs = tickMs;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    public void setLoadChunkSize(int loadChunkSize) {
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+}
@@ -0,0 +1,13 @@
+package com.studywithme.study.search;
+
+import com.studywithme.study.domain.StudyStatus;
+
+public record StudyDocument(
+        Long id,
+        String title,
+        String description,
+        StudyStatus status,
+        String category,
+        String region
+) {
+}
@@ -0,0 +1,7 @@
+package com.studywithme.study.search;
+
+public record StudySearchHit(
+        Long studyId,
+        double score
+) {
+}
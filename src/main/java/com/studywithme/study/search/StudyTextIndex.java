@@ -0,0 +1,173 @@
+package com.studywithme.study.search;
+
+import com.studywithme.study.domain.StudyStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 스터디 제목/소개의 역색인. term -> (studyId -> 가중치) 와 문서별 필터 값(status, category, region)을 둔다.
+// 질의는 모든 term 을 포함하는 문서만 (짧은 posting 부터 교집합) 남기고 tf 포화 * idf 로 순위를 매긴다.
+// 갱신은 문서 단위 교체이며 쓰기 락, 질의는 읽기 락으로 보호한다.
+public class StudyTextIndex {
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final double SATURATION = 1.2;
+    private static final Comparator<StudySearchHit> RANK = Comparator.comparingDouble(StudySearchHit::score)
+            .thenComparing(StudySearchHit::studyId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, IndexedStudy> documents = new HashMap<>();
+
+    public void upsert(StudyDocument document) {
+        Map<String, Float> weights = new HashMap<>();
+        for (String token : StudyTokenizer.tokenize(document.title())) {
+            weights.merge(token, TITLE_WEIGHT, Float::sum);
+        }
+        for (String token : StudyTokenizer.tokenize(document.description())) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Float::sum);
+        }
+        IndexedStudy indexed = new IndexedStudy(document.status(), document.category(), document.region(), weights);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            documents.put(document.id(), indexed);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>())
+                    .put(document.id(), weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<StudySearchHit> search(String query, StudySearchFilter filter, int limit) {
+        Set<String> terms = new LinkedHashSet<>(StudyTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> posting = lookup(term);
+                if (posting.isEmpty()) {
+                    return List.of();
+                }
+                termPostings.add(posting);
+            }
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int totalDocuments = documents.size();
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1.0 + (double) totalDocuments / termPostings.get(i).size());
+            }
+
+            PriorityQueue<StudySearchHit> top = new PriorityQueue<>(limit + 1, RANK);
+            candidates:
+            for (Map.Entry<Long, Float> candidate : termPostings.get(0).entrySet()) {
+                Long studyId = candidate.getKey();
+                if (!filter.matches(documents.get(studyId))) {
+                    continue;
+                }
+                double score = saturate(candidate.getValue()) * idf[0];
+                for (int i = 1; i < termPostings.size(); i++) {
+                    Float weight = termPostings.get(i).get(studyId);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    score += saturate(weight) * idf[i];
+                }
+                top.add(new StudySearchHit(studyId, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<StudySearchHit> hits = new ArrayList<>(top);
+            hits.sort(RANK.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Float> lookup(String term) {
+        if (term.length() == 1 && StudyTokenizer.isHangul(term.charAt(0))) {
+            // 한 글자 질의는 그 글자로 시작하는 2-gram 을 모두 합친다.
+            NavigableMap<String, Map<Long, Float>> range = postings.subMap(term, true, term + Character.MAX_VALUE, true);
+            Map<Long, Float> merged = new HashMap<>();
+            range.values().forEach(posting -> posting.forEach((id, weight) -> merged.merge(id, weight, Float::sum)));
+            return merged;
+        }
+        return postings.getOrDefault(term, Map.of());
+    }
+
+    private void removeLocked(Long studyId) {
+        IndexedStudy previous = documents.remove(studyId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.weights().keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(studyId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static double saturate(float weight) {
+        return weight * (SATURATION + 1) / (weight + SATURATION);
+    }
+
+    record IndexedStudy(
+            StudyStatus status,
+            String category,
+            String region,
+            Map<String, Float> weights
+    ) {
+    }
+
+    public record StudySearchFilter(
+            StudyStatus status,
+            String category,
+            String region
+    ) {
+        public static final StudySearchFilter NONE = new StudySearchFilter(null, null, null);
+
+        boolean matches(IndexedStudy study) {
+            return (status == null || status == study.status())
+                    && (category == null || Objects.equals(category, study.category()))
+                    && (region == null || Objects.equals(region, study.region()));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.studywithme.study.search;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "study.text-index")
+public class StudyTextIndexProperties {
+
+    // 긴 소개글이 색인 메모리를 키우지 않도록 앞부분만 색인한다.
+    @Min(1)
+    private int maxDescriptionChars = 2_000;
+
+    @Min(1)
+    private int loadChunkSize = 1_000;
+
+    // 다른 노드의 변경이 이 간격 안에 반영된다.
+    @Min(1)
+    private long rebuildIntervalMs = 600_000;
+
+    @Min(1)
+    private long loadRetryIntervalMs = 30_000;
+
+    public int getMaxDescriptionChars() {
+        return maxDescriptionChars;
+    }
+
+    public void setMaxDescriptionChars(int maxDescriptionChars) {
+        this.maxDescriptionChars = maxDescriptionChars;
+    }
+
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    public void setLoadChunkSize(int loadChunkSize) {
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    public long getRebuildIntervalMs() {
+        return rebuildIntervalMs;
+    }
+
+    public void setRebuildIntervalMs(long rebuildIntervalMs) {
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    public long getLoadRetryIntervalMs() {
+        return loadRetryIntervalMs;
+    }
+
+    public void setLoadRetryIntervalMs(long loadRetryIntervalMs) {
+        this.loadRetryIntervalMs = loadRetryIntervalMs;
+    }
+}
@@ -0,0 +1,132 @@
+package com.studywithme.study.search;
+
+import com.studywithme.global.startup.WarmUpTask;
+import com.studywithme.study.domain.StudyChangedEvent;
+import com.studywithme.study.repository.StudyIndexMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 기동 시 study 전체를 PK 순서로 읽어 색인하고, 이후에는 StudyChangedEvent 로 한 건씩 다시 색인한다.
+// 이벤트는 이 노드의 변경만 오므로 rebuild-interval-ms 마다 새 색인을 만들어 통째로 교체해 다른 노드의 변경을 맞춘다.
+// 재구성 중 바뀐 스터디는 교체 후 DB 에서 다시 읽어 새 색인에 반영한다.
+@Component
+public class StudyTextIndexer implements WarmUpTask {
+    private static final Logger log = LoggerFactory.getLogger(StudyTextIndexer.class);
+
+    private final StudyIndexMapper studyIndexMapper;
+    private final StudyTextIndexProperties properties;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile StudyTextIndex index = new StudyTextIndex();
+    private volatile boolean rebuilding;
+    private volatile boolean loaded;
+
+    public StudyTextIndexer(
+            StudyIndexMapper studyIndexMapper,
+            StudyTextIndexProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.studyIndexMapper = studyIndexMapper;
+        this.properties = properties;
+        Gauge.builder("study.text.index.documents", this, indexer -> indexer.index.size()).register(meterRegistry);
+    }
+
+    public StudyTextIndex index() {
+        return index;
+    }
+
+    // 첫 적재 전에는 색인이 비어 있으므로 검색은 DB 로 답한다.
+    @Override
+    public boolean isWarmedUp() {
+        return loaded;
+    }
+
+    @Override
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 기동 적재가 실패했으면 재구성 주기를 기다리지 않고 더 짧은 간격으로 다시 시도한다.
+    @Scheduled(
+            initialDelayString = "${study.text-index.load-retry-interval-ms:30000}",
+            fixedDelayString = "${study.text-index.load-retry-interval-ms:30000}"
+    )
+    public void retryLoad() {
+        if (!loaded) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${study.text-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${study.text-index.rebuild-interval-ms:600000}"
+    )
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            StudyTextIndex rebuilt = new StudyTextIndex();
+            int documents = loadInto(rebuilt);
+            index = rebuilt;
+            rebuilding = false;
+            reindexChangedDuringRebuild();
+            loaded = true;
+            log.info("studyTextIndexLoaded documents={}, durationMs={}",
+                    documents, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            // 기동을 실패시키지 않는다. 기존 색인을 그대로 쓰고 다음 시도에서 다시 읽는다.
+            log.warn("studyTextIndexLoadFailed loaded={}, message={}", loaded, ex.getMessage());
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudyChanged(StudyChangedEvent event) {
+        // 교체 직전의 옛 색인에 반영될 수 있으므로 재구성 중이면 id 를 먼저 남긴다.
+        if (rebuilding) {
+            changedDuringRebuild.add(event.studyId());
+        }
+        reindex(index, event.studyId());
+    }
+
+    private int loadInto(StudyTextIndex target) {
+        long afterId = 0;
+        int count = 0;
+        while (true) {
+            List<StudyDocument> chunk = studyIndexMapper.findAfter(
+                    afterId, properties.getLoadChunkSize(), properties.getMaxDescriptionChars());
+            chunk.forEach(target::upsert);
+            count += chunk.size();
+            if (chunk.size() < properties.getLoadChunkSize()) {
+                return count;
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+    }
+
+    private void reindexChangedDuringRebuild() {
+        for (Long studyId : changedDuringRebuild) {
+            reindex(index, studyId);
+        }
+    }
+
+    private void reindex(StudyTextIndex target, Long studyId) {
+        StudyDocument document = studyIndexMapper.findById(studyId, properties.getMaxDescriptionChars());
+        if (document == null) {
+            target.remove(studyId);
+            return;
+        }
+        target.upsert(document);
+    }
+}
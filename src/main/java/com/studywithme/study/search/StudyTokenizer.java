@@ -0,0 +1,61 @@
+package com.studywithme.study.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 형태소 분석 없이 2-gram 으로 쪼개 부분 문자열 검색이 되게 하고, 영문/숫자는 단어 단위로 자른다.
+// 문서와 질의에 같은 규칙을 쓴다. 한 글자짜리 한글 덩어리는 그대로 한 토큰이 된다.
+public final class StudyTokenizer {
+    private StudyTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int end = i;
+                while (end < length && isHangul(normalized.charAt(end))) {
+                    end++;
+                }
+                addBigrams(normalized, i, end, tokens);
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i;
+                while (end < length && isWordChar(normalized.charAt(end))) {
+                    end++;
+                }
+                tokens.add(normalized.substring(i, end));
+                i = end;
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangul(c);
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
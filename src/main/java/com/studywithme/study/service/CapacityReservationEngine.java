@@ -0,0 +1,134 @@
+package com.studywithme.study.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.study.repository.CapacityRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 인기 스터디 오픈 시 신청이 capacity 한 행에 몰리므로 두 단계로 좌석을 잡는다.
+// 1) 노드 메모리의 게이트(남은 좌석 수 상한)에서 CAS 로 허가를 얻는다. 매진되면 DB 에 가지 않고 바로 거절한다.
+// 2) 허가를 얻은 요청만 조건부 UPDATE(remain > 0)로 실제 좌석을 차감한다. remain 은 DB 가 보장한다.
+// 게이트는 DB 값의 상한일 뿐이라 노드가 여러 대여도 초과 확정은 생기지 않는다.
+@Component
+public class CapacityReservationEngine {
+    private static final String METRIC = "study.capacity.reservations";
+
+    private final CapacityRepository capacityRepository;
+    private final Cache<Long, AtomicInteger> gates;
+    private final Counter confirmedCounter;
+    private final Counter rejectedByGateCounter;
+    private final Counter rejectedByDbCounter;
+
+    public CapacityReservationEngine(
+            CapacityRepository capacityRepository,
+            CapacityReservationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.capacityRepository = capacityRepository;
+        this.gates = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(properties.getGateTtlSeconds()))
+                .maximumSize(properties.getMaximumSize())
+                .build();
+        this.confirmedCounter = Counter.builder(METRIC).tag("result", "confirmed").register(meterRegistry);
+        this.rejectedByGateCounter = Counter.builder(METRIC).tag("result", "rejected_gate").register(meterRegistry);
+        this.rejectedByDbCounter = Counter.builder(METRIC).tag("result", "rejected_db").register(meterRegistry);
+    }
+
+    // 신청 insert 와 같은 트랜잭션에서, 가능한 한 마지막에 호출해 행 잠금 보유 시간을 줄인다.
+    // 트랜잭션이 롤백되면 게이트 허가를 되돌린다.
+    @Transactional
+    public void reserve(Long studyId) {
+        AtomicInteger gate = gate(studyId);
+        if (!tryAcquire(gate)) {
+            rejectedByGateCounter.increment();
+            throw new ApiException(ErrorCode.CAPACITY_INSUFFICIENT);
+        }
+        int updated;
+        try {
+            updated = capacityRepository.decrementRemain(studyId);
+        } catch (RuntimeException ex) {
+            gate.incrementAndGet();
+            throw ex;
+        }
+        if (updated == 0) {
+            // 다른 노드가 먼저 가져갔다. 게이트를 닫아 두면 다른 노드의 롤백·취소로 생긴 좌석을 TTL 동안 못 보므로,
+            // 버리고 다음 요청에서 DB 값으로 다시 만든다.
+            gates.invalidate(studyId);
+            rejectedByDbCounter.increment();
+            throw new ApiException(ErrorCode.CAPACITY_INSUFFICIENT);
+        }
+        releaseOnRollback(gate);
+        confirmedCounter.increment();
+    }
+
+    // 신청 취소 시 좌석을 돌려준다.
+    @Transactional
+    public void release(Long studyId) {
+        if (capacityRepository.incrementRemain(studyId) == 0) {
+            return;
+        }
+        AtomicInteger gate = gates.getIfPresent(studyId);
+        if (gate == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            gate.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                gate.incrementAndGet();
+            }
+        });
+    }
+
+    public void invalidate(Long studyId) {
+        gates.invalidate(studyId);
+    }
+
+    private AtomicInteger gate(Long studyId) {
+        // 존재하지 않는 스터디는 게이트를 만들지 않는다.
+        AtomicInteger gate = gates.get(studyId, id -> capacityRepository.findRemainByStudyId(id)
+                .map(AtomicInteger::new)
+                .orElse(null));
+        if (gate == null) {
+            throw new ApiException(ErrorCode.STUDY_NOT_FOUND);
+        }
+        return gate;
+    }
+
+    private static boolean tryAcquire(AtomicInteger gate) {
+        int current;
+        do {
+            current = gate.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!gate.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    private static void releaseOnRollback(AtomicInteger gate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    gate.incrementAndGet();
+                }
+            }
+        });
+    }
+}
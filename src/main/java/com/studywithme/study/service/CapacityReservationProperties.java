@@ -0,0 +1,33 @@
+package com.studywithme.study.service;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "study.capacity")
+public class CapacityReservationProperties {
+
+    // 다른 노드의 취소/차감을 반영하기 위해 게이트를 DB 값으로 다시 적재하는 주기
+    @Min(1)
+    private long gateTtlSeconds = 30;
+
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    public long getGateTtlSeconds() {
+        return gateTtlSeconds;
+    }
+
+    public void setGateTtlSeconds(long gateTtlSeconds) {
+        this.gateTtlSeconds = gateTtlSeconds;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+}
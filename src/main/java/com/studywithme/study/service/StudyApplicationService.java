@@ -0,0 +1,67 @@
+package com.studywithme.study.service;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.study.domain.ApplicationStatus;
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.dto.ApplicationResponse;
+import com.studywithme.study.repository.StudyApplicationMapper;
+import com.studywithme.study.repository.StudyRecruitmentMapper;
+import com.studywithme.study.schedule.StudyRecruitmentDeadline;
+import java.time.LocalDateTime;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 신청은 좌석 확보와 함께 바로 확정된다.
+// 좌석은 CapacityReservationEngine 으로 잡고, capacity 행 잠금을 짧게 가져가도록 트랜잭션 마지막에 호출한다.
+@Service
+public class StudyApplicationService {
+    private final StudyApplicationMapper studyApplicationMapper;
+    private final StudyRecruitmentMapper studyRecruitmentMapper;
+    private final CapacityReservationEngine capacityReservationEngine;
+
+    public StudyApplicationService(
+            StudyApplicationMapper studyApplicationMapper,
+            StudyRecruitmentMapper studyRecruitmentMapper,
+            CapacityReservationEngine capacityReservationEngine
+    ) {
+        this.studyApplicationMapper = studyApplicationMapper;
+        this.studyRecruitmentMapper = studyRecruitmentMapper;
+        this.capacityReservationEngine = capacityReservationEngine;
+    }
+
+    @Transactional
+    public ApplicationResponse apply(Long studyId, Long memberId) {
+        StudyRecruitmentDeadline study = studyRecruitmentMapper.findById(studyId);
+        if (study == null) {
+            throw new ApiException(ErrorCode.STUDY_NOT_FOUND);
+        }
+        // 마감 tick 전이라도 지난 마감에는 받지 않는다.
+        if (study.status() != StudyStatus.RECRUITING || !study.recruitEndAt().isAfter(LocalDateTime.now())) {
+            throw new ApiException(ErrorCode.STUDY_CLOSED);
+        }
+        if (studyApplicationMapper.reapply(studyId, memberId) == 0) {
+            try {
+                studyApplicationMapper.insert(studyId, memberId);
+            } catch (DuplicateKeyException ex) {
+                throw new ApiException(ErrorCode.APPLICATION_DUPLICATED);
+            }
+        }
+        // 정원이 없으면 CAPACITY_INSUFFICIENT 로 트랜잭션째 롤백된다.
+        capacityReservationEngine.reserve(studyId);
+        return new ApplicationResponse(studyId, ApplicationStatus.CONFIRMED);
+    }
+
+    @Transactional
+    public ApplicationResponse cancel(Long studyId, Long memberId) {
+        if (studyApplicationMapper.cancel(studyId, memberId) == 0) {
+            ApplicationStatus status = studyApplicationMapper.findStatus(studyId, memberId);
+            throw new ApiException(status == null
+                    ? ErrorCode.APPLICATION_NOT_FOUND
+                    : ErrorCode.APPLICATION_ALREADY_CANCELED);
+        }
+        capacityReservationEngine.release(studyId);
+        return new ApplicationResponse(studyId, ApplicationStatus.CANCELED);
+    }
+}
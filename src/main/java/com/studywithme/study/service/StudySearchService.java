@@ -0,0 +1,38 @@
+package com.studywithme.study.service;
+
+import com.studywithme.global.response.CursorPageResponse;
+import com.studywithme.review.service.ReviewRatingAggregator;
+import com.studywithme.study.dto.StudySearchRequest;
+import com.studywithme.study.dto.StudySummaryResponse;
+import com.studywithme.study.repository.StudySearchMapper;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class StudySearchService {
+    private final StudySearchMapper studySearchMapper;
+    private final ReviewRatingAggregator reviewRatingAggregator;
+
+    public StudySearchService(StudySearchMapper studySearchMapper, ReviewRatingAggregator reviewRatingAggregator) {
+        this.studySearchMapper = studySearchMapper;
+        this.reviewRatingAggregator = reviewRatingAggregator;
+    }
+
+    public CursorPageResponse<StudySummaryResponse> search(StudySearchRequest request) {
+        int size = request.getSize();
+        // 한 건 더 읽어 다음 페이지 존재 여부를 COUNT 없이 판단한다.
+        List<StudySummaryResponse> rows = studySearchMapper.search(request, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<StudySummaryResponse> items = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).id() : null;
+        Long total = request.isIncludeTotal() && request.getCursor() == null
+                ? studySearchMapper.count(request)
+                : null;
+        List<StudySummaryResponse> rated = items.stream()
+                .map(item -> item.withRating(reviewRatingAggregator.getSummary(item.id())))
+                .toList();
+        return new CursorPageResponse<>(rated, size, nextCursor, hasNext, total);
+    }
+}
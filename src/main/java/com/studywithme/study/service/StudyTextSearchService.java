@@ -0,0 +1,72 @@
+package com.studywithme.study.service;
+
+import com.studywithme.review.service.ReviewRatingAggregator;
+import com.studywithme.study.dto.StudySummaryResponse;
+import com.studywithme.study.dto.StudyTextSearchRequest;
+import com.studywithme.study.repository.StudySearchMapper;
+import com.studywithme.study.search.StudySearchHit;
+import com.studywithme.study.search.StudyTextIndex.StudySearchFilter;
+import com.studywithme.study.search.StudyTextIndexer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class StudyTextSearchService {
+    private final StudyTextIndexer studyTextIndexer;
+    private final StudySearchMapper studySearchMapper;
+    private final ReviewRatingAggregator reviewRatingAggregator;
+
+    public StudyTextSearchService(
+            StudyTextIndexer studyTextIndexer,
+            StudySearchMapper studySearchMapper,
+            ReviewRatingAggregator reviewRatingAggregator
+    ) {
+        this.studyTextIndexer = studyTextIndexer;
+        this.studySearchMapper = studySearchMapper;
+        this.reviewRatingAggregator = reviewRatingAggregator;
+    }
+
+    // 색인에서 순위가 매겨진 id 만 얻고, 본문은 PK IN 조회 한 번으로 읽는다.
+    public List<StudySummaryResponse> search(StudyTextSearchRequest request) {
+        if (!studyTextIndexer.isWarmedUp()) {
+            return searchDatabase(request);
+        }
+        StudySearchFilter filter = new StudySearchFilter(request.status(), blankToNull(request.category()),
+                blankToNull(request.region()));
+        List<StudySearchHit> hits = studyTextIndexer.index().search(request.q(), filter, request.sizeOrDefault());
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, StudySummaryResponse> rows = studySearchMapper.findByIds(hits.stream().map(StudySearchHit::studyId).toList())
+                .stream()
+                .collect(Collectors.toMap(StudySummaryResponse::id, Function.identity()));
+        return hits.stream()
+                .map(hit -> rows.get(hit.studyId()))
+                .filter(Objects::nonNull)
+                .map(row -> row.withRating(reviewRatingAggregator.getSummary(row.id())))
+                .toList();
+    }
+
+    // 색인 적재 전 대체 경로. 제목 LIKE 라 순위 없이 최신순이고 느리지만, 기동 직후 빈 결과를 돌려주지는 않는다.
+    private List<StudySummaryResponse> searchDatabase(StudyTextSearchRequest request) {
+        return studySearchMapper.searchByTitle(escapeLike(request.q().trim()), request.status(),
+                        blankToNull(request.category()), blankToNull(request.region()), request.sizeOrDefault())
+                .stream()
+                .map(row -> row.withRating(reviewRatingAggregator.getSummary(row.id())))
+                .toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
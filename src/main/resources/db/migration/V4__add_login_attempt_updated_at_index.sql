@@ -0,0 +1 @@
+CREATE INDEX idx_login_attempt_updated_at ON login_attempt (updated_at);
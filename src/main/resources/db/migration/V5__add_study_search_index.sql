@@ -0,0 +1,4 @@
+-- 목록 검색은 status 동등 조건 + id 역순 seek 로 읽는다.
+-- 필터 컬럼을 뒤에 붙여 id 를 고르는 단계가 인덱스만으로 끝나게 한다. (idx_study_status 는 이 인덱스의 prefix 라 제거)
+CREATE INDEX idx_study_search ON study (status, id, category, level, is_online, region, recruit_end_at);
+DROP INDEX idx_study_status ON study;
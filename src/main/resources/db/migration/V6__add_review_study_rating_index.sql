@@ -0,0 +1,4 @@
+-- 평점 집계 재구성이 테이블 본문을 읽지 않도록 (study_id, rating) 커버링 인덱스로 바꾼다.
+-- fk_review_study 는 새 인덱스의 prefix 로 계속 지원된다.
+CREATE INDEX idx_review_study_rating ON review (study_id, rating);
+DROP INDEX idx_review_study_id ON review;
@@ -0,0 +1,25 @@
+-- 기기(로그인)마다 family 하나. 재발급하면 같은 family 로 새 행을 만들고 이전 행은 rotated_at 을 찍는다.
+CREATE TABLE refresh_token (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  member_id BIGINT NOT NULL,
+  family_id CHAR(36) NOT NULL,
+  token_hash VARCHAR(64) NOT NULL,
+  expires_at DATETIME(6) NOT NULL,
+  rotated_at DATETIME(6) NULL,
+  revoked_at DATETIME(6) NULL,
+  created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  CONSTRAINT pk_refresh_token PRIMARY KEY (id),
+  CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+  CONSTRAINT fk_refresh_token_member FOREIGN KEY (member_id) REFERENCES member(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_refresh_token_member_id ON refresh_token (member_id);
+CREATE INDEX idx_refresh_token_family_id ON refresh_token (family_id);
+CREATE INDEX idx_refresh_token_expires_at ON refresh_token (expires_at);
+
+-- 기존 세션은 각자 family 하나로 옮긴다. member 의 컬럼은 이전 버전 노드가 모두 내려간 뒤 별도 마이그레이션에서 지운다.
+INSERT INTO refresh_token (member_id, family_id, token_hash, expires_at)
+SELECT id, UUID(), refresh_token_hash, refresh_token_expires_at
+FROM member
+WHERE refresh_token_hash IS NOT NULL
+  AND refresh_token_expires_at > NOW(6);
@@ -0,0 +1,3 @@
+-- 재생 응답에 Location, Content-Type 등을 돌려주기 위해 응답 헤더를 "이름:값" 줄 단위로 저장한다.
+-- 이전 버전 노드가 남긴 행은 NULL 이며 JSON 본문만 재생한다.
+ALTER TABLE idempotency_key ADD COLUMN response_headers TEXT NULL AFTER response_body;
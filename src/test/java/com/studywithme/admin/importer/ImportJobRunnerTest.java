@@ -0,0 +1,53 @@
+package com.studywithme.admin.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportJobRunnerTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private ImportJobRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("업로드가 max-upload-bytes 를 넘으면 413 으로 거절하고 스풀 파일과 작업 슬롯을 돌려놓는다")
+    @SuppressWarnings("unchecked")
+    void start_oversizedUpload_isRejected() throws Exception {
+        ImportProperties properties = new ImportProperties();
+        properties.setSpoolDir(spoolDir.toString());
+        properties.setMaxUploadBytes(16);
+        runner = new ImportJobRunner(new ObjectMapper(), properties);
+        ImportBatchHandler<List<Object>> handler = mock(ImportBatchHandler.class);
+
+        assertThatThrownBy(() -> runner.start(
+                ImportJob.Target.MEMBER, new ByteArrayInputStream(new byte[17]), ImportFormat.NDJSON, handler))
+                .isInstanceOfSatisfying(ApiException.class,
+                        ex -> assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.ADMIN_IMPORT_TOO_LARGE));
+        try (var files = Files.list(spoolDir)) {
+            assertThat(files).isEmpty();
+        }
+
+        ImportResponse accepted = runner.start(
+                ImportJob.Target.MEMBER, new ByteArrayInputStream(new byte[0]), ImportFormat.NDJSON, handler);
+        assertThat(accepted.jobId()).isNotNull();
+    }
+}
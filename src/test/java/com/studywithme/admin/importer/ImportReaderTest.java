@@ -0,0 +1,102 @@
+package com.studywithme.admin.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄씩 읽고, 잘못된 줄은 오류 레코드로 돌려준 뒤 계속 읽는다")
+    void ndjson_readsLineByLine() throws IOException {
+        Path file = write("""
+                {"email":"a@studywithme.com","password":"password1!","name":"에이"}
+                {broken
+
+                {"email":"b@studywithme.com","passwordHash":"$2a$10$abc","name":"비","role":"HOST"}
+                """);
+
+        try (ImportReader reader = ImportReader.open(file, ImportFormat.NDJSON, objectMapper)) {
+            ImportRow first = reader.next();
+            ImportRow broken = reader.next();
+            ImportRow second = reader.next();
+
+            assertThat(first.get("email")).isEqualTo("a@studywithme.com");
+            assertThat(first.get("password")).isEqualTo("password1!");
+            assertThat(first.error()).isNull();
+            assertThat(broken.line()).isEqualTo(2);
+            assertThat(broken.error()).isNotNull();
+            assertThat(second.line()).isEqualTo(4);
+            assertThat(second.get("passwordHash")).isEqualTo("$2a$10$abc");
+            assertThat(second.get("role")).isEqualTo("HOST");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 는 헤더로 열을 찾고 따옴표 안의 쉼표를 값으로 읽는다")
+    void csv_mapsColumnsByHeader() throws IOException {
+        Path file = write("\uFEFFname,Email,password_hash\n"
+                + "\"Kim, Jiwoo\",kim@studywithme.com,$2b$10$xyz\n"
+                + "lee,lee@studywithme.com,\n");
+
+        try (ImportReader reader = ImportReader.open(file, ImportFormat.CSV, objectMapper)) {
+            ImportRow first = reader.next();
+            ImportRow second = reader.next();
+
+            assertThat(first.get("name")).isEqualTo("Kim, Jiwoo");
+            assertThat(first.get("email")).isEqualTo("kim@studywithme.com");
+            assertThat(first.get("passwordHash")).isEqualTo("$2b$10$xyz");
+            assertThat(second.get("passwordHash")).isNull();
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON 의 숫자와 불리언 값도 문자열로 읽고, 열 이름은 밑줄과 대소문자를 가리지 않는다")
+    void ndjson_readsScalarValuesAndNormalizesNames() throws IOException {
+        Path file = write("""
+                {"leaderEmail":"a@studywithme.com","is_online":true,"capacity":10,"region":null}
+                """);
+
+        try (ImportReader reader = ImportReader.open(file, ImportFormat.NDJSON, objectMapper)) {
+            ImportRow row = reader.next();
+
+            assertThat(row.get("leader_email")).isEqualTo("a@studywithme.com");
+            assertThat(row.get("isOnline")).isEqualTo("true");
+            assertThat(row.get("capacity")).isEqualTo("10");
+            assertThat(row.get("region")).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 따옴표가 닫히지 않은 줄은 오류 레코드가 된다")
+    void csv_unterminatedQuote_isInvalid() throws IOException {
+        Path file = write("email,name\n\"broken@studywithme.com,name\n");
+
+        try (ImportReader reader = ImportReader.open(file, ImportFormat.CSV, objectMapper)) {
+            ImportRow record = reader.next();
+
+            assertThat(record.line()).isEqualTo(2);
+            assertThat(record.error()).isNotNull();
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("import.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
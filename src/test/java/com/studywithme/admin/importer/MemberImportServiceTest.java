@@ -0,0 +1,46 @@
+package com.studywithme.admin.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.studywithme.member.service.EmailExistenceFilter;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class MemberImportServiceTest {
+    private final MemberImportService service = new MemberImportService(
+            mock(JdbcTemplate.class), mock(EmailExistenceFilter.class), mock(ImportJobRunner.class), properties());
+
+    @Test
+    @DisplayName("가입 규칙을 어긴 비밀번호는 그 행만 실패로 남기고 나머지 행은 해시한다")
+    void prepare_invalidPassword_failsOnlyThatRow() {
+        ImportJob job = new ImportJob("job", ImportJob.Target.MEMBER, ImportFormat.NDJSON, 10);
+        List<Object[]> rows = service.prepare(job, List.of(
+                row(1, "a@studywithme.com", "password1!"),
+                row(2, "b@studywithme.com", "short"),
+                row(3, "c@studywithme.com", "가".repeat(21)),
+                row(4, "d@studywithme.com", "password2!")
+        ));
+
+        assertThat(rows).extracting(row -> row[0]).containsExactly("a@studywithme.com", "d@studywithme.com");
+        assertThat((String) rows.get(0)[1]).startsWith("$2a$04$");
+        ImportResponse response = job.toResponse();
+        assertThat(response.failedRows()).isEqualTo(2);
+        assertThat(response.errors()).containsExactlyInAnyOrder(
+                "line 2: password must be 8 to 20 characters",
+                "line 3: password must be 8 to 20 characters");
+    }
+
+    private static ImportRow row(long line, String email, String password) {
+        return new ImportRow(line, Map.of("email", email, "password", password, "name", "회원" + line), null);
+    }
+
+    private static ImportProperties properties() {
+        ImportProperties properties = new ImportProperties();
+        properties.setHashStrength(4);
+        return properties;
+    }
+}
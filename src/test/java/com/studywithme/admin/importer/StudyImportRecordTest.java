@@ -0,0 +1,51 @@
+package com.studywithme.admin.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studywithme.study.domain.StudyStatus;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudyImportRecordTest {
+
+    @Test
+    @DisplayName("일시와 상태, 정원을 타입에 맞게 읽고 is_online 이 없으면 오프라인으로 본다")
+    void from_parsesTypedColumns() {
+        StudyImportRecord record = StudyImportRecord.from(row(Map.of("capacity", "12")));
+
+        assertThat(record.error()).isNull();
+        assertThat(record.leaderEmail()).isEqualTo("leader@studywithme.com");
+        assertThat(record.online()).isFalse();
+        assertThat(record.startAt()).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 0));
+        assertThat(record.status()).isEqualTo(StudyStatus.COMPLETED);
+        assertThat(record.capacity()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("컬럼 길이나 값이 맞지 않는 행은 오류 레코드가 된다")
+    void from_invalidColumns_areRejected() {
+        assertThat(StudyImportRecord.from(row(Map.of("title", "가".repeat(101)))).error()).isEqualTo("invalid title");
+        assertThat(StudyImportRecord.from(row(Map.of("startAt", "2024/03/01"))).error()).contains("ISO-8601");
+        assertThat(StudyImportRecord.from(row(Map.of("endAt", "2024-02-01T00:00:00"))).error())
+                .isEqualTo("start_at is after end_at");
+        assertThat(StudyImportRecord.from(row(Map.of("status", "DONE"))).error()).isEqualTo("invalid status");
+        assertThat(StudyImportRecord.from(row(Map.of("capacity", "0"))).error()).isEqualTo("invalid capacity");
+        assertThat(StudyImportRecord.from(row(Map.of("isOnline", "yes"))).error()).isEqualTo("invalid is_online");
+    }
+
+    private static ImportRow row(Map<String, String> overrides) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("leaderemail", "leader@studywithme.com");
+        fields.put("title", "자바 스터디");
+        fields.put("description", "지난 기수");
+        fields.put("recruitendat", "2024-02-20T00:00:00");
+        fields.put("startat", "2024-03-01T10:00:00");
+        fields.put("endat", "2024-05-01T10:00:00");
+        fields.put("status", "completed");
+        overrides.forEach((name, value) -> fields.put(ImportRow.normalize(name), value));
+        return new ImportRow(2, fields, null);
+    }
+}
@@ -0,0 +1,191 @@
+package com.studywithme.global.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class AuditEventWriterTest {
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    private AuditSpillStore spillStore;
+    private AuditEventWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 이벤트를 batch-size 단위 multi-row INSERT 로 모두 쓴다")
+    void shutdown_flushesQueueInBatches() throws Exception {
+        writer = writer(2, 100, 3);
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(event("ACTION_" + i));
+        }
+
+        writer.shutdown();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeast(3)).update(sql.capture(), any(Object[].class));
+        List<Integer> rows = sql.getAllValues().stream().map(AuditEventWriterTest::rowCount).toList();
+        assertThat(rows).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(2));
+        assertThat(rows.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        assertThat(writer.depth()).isZero();
+        assertThat(spillStore.pendingFiles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("DB 쓰기가 실패한 배치는 스필 파일로 남는다")
+    void flushFailure_spillsBatch() throws Exception {
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).update(anyString(), any(Object[].class));
+        writer = writer(10, 100, 3);
+        writer.enqueue(event("FIRST"));
+        writer.enqueue(event("SECOND"));
+
+        writer.shutdown();
+
+        List<Path> files = spillStore.pendingFiles();
+        assertThat(files).hasSize(1);
+        assertThat(spillStore.read(files.get(0))).extracting(AuditEvent::action).containsExactly("FIRST", "SECOND");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드가 바로 스필 파일에 쓴다")
+    void enqueue_whenQueueFull_spillsOnCallerThread() throws Exception {
+        writer = writer(10, 1, 3);
+        writer.enqueue(event("QUEUED"));
+        writer.enqueue(event("OVERFLOW"));
+
+        List<Path> files = spillStore.pendingFiles();
+        assertThat(files).hasSize(1);
+        assertThat(spillStore.read(files.get(0))).extracting(AuditEvent::action).containsExactly("OVERFLOW");
+        assertThat(writer.depth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스필 파일을 다시 적재하고 지운다")
+    void replaySpilled_insertsAndDeletesFiles() throws Exception {
+        writer = writer(10, 100, 3);
+        spillStore.append(List.of(event("FIRST"), event("SECOND")));
+        spillStore.append(List.of(event("THIRD")));
+
+        writer.replaySpilled();
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        assertThat(spillStore.pendingFiles()).isEmpty();
+        assertThat(meterRegistry.get("audit.events").tag("result", "replayed").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일시적인 오류면 순서를 지키려고 뒤 파일은 건드리지 않고 다음 주기를 기다린다")
+    void replaySpilled_transientFailure_stopsAtFirstFile() throws Exception {
+        writer = writer(10, 100, 3);
+        spillStore.append(List.of(event("FIRST")));
+        spillStore.append(List.of(event("SECOND")));
+        doThrow(new QueryTimeoutException("timeout")).when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        for (int i = 0; i < 5; i++) {
+            writer.replaySpilled();
+        }
+
+        verify(jdbcTemplate, times(5)).update(anyString(), any(Object[].class));
+        assertThat(spillStore.pendingFiles()).hasSize(2);
+        assertThat(quarantined()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("계속 제약 위반으로 실패하는 파일은 정해진 횟수 뒤 격리하고, 뒤 파일은 막지 않는다")
+    void replaySpilled_poisonFile_isQuarantinedAfterMaxAttempts() throws Exception {
+        writer = writer(10, 100, 3);
+        spillStore.append(List.of(event("POISON")));
+        spillStore.append(List.of(event("HEALTHY")));
+        Path poison = spillStore.pendingFiles().get(0);
+        doAnswer(invocation -> {
+            if (Arrays.deepToString(invocation.getArguments()).contains("POISON")) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return 1;
+        }).when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        writer.replaySpilled();
+        assertThat(spillStore.pendingFiles()).containsExactly(poison);
+
+        writer.replaySpilled();
+        writer.replaySpilled();
+
+        assertThat(spillStore.pendingFiles()).isEmpty();
+        assertThat(quarantined()).containsExactly(poison.getFileName().toString());
+        assertThat(meterRegistry.get("audit.spill.quarantined").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 스필 파일은 바로 격리한다")
+    void replaySpilled_unreadableFile_isQuarantined() throws Exception {
+        writer = writer(10, 100, 3);
+        Files.writeString(directory.resolve("audit-0000000000000-000000.ndjson"), "{not json\n");
+
+        writer.replaySpilled();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        assertThat(quarantined()).containsExactly("audit-0000000000000-000000.ndjson");
+    }
+
+    private AuditEventWriter writer(int batchSize, int queueCapacity, int maxReplayAttempts) {
+        AuditProperties properties = new AuditProperties();
+        properties.setBatchSize(batchSize);
+        properties.setQueueCapacity(queueCapacity);
+        // 테스트 중에는 주기 flush 가 끼어들지 않게 길게 둔다.
+        properties.setFlushIntervalMs(60_000);
+        properties.setSpillMaxReplayAttempts(maxReplayAttempts);
+        spillStore = new AuditSpillStore(directory, objectMapper);
+        return new AuditEventWriter(jdbcTemplate, spillStore, properties, meterRegistry);
+    }
+
+    private List<String> quarantined() throws Exception {
+        Path quarantine = directory.resolve("quarantine");
+        if (!Files.isDirectory(quarantine)) {
+            return List.of();
+        }
+        try (var files = Files.list(quarantine)) {
+            return files.map(path -> path.getFileName().toString()).toList();
+        }
+    }
+
+    private static AuditEvent event(String action) {
+        return AuditEvent.of(1L, action, "MEMBER", 1L, "ACTIVE", "SUSPENDED");
+    }
+
+    private static int rowCount(String sql) {
+        return sql.split("\\(\\?", -1).length - 1;
+    }
+}
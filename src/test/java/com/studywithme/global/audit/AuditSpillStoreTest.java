@@ -0,0 +1,51 @@
+package com.studywithme.global.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AuditSpillStoreTest {
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("스필한 배치를 쓴 순서대로 그대로 읽어 온다")
+    void appendThenRead_preservesEventsAndOrder() throws Exception {
+        AuditSpillStore store = new AuditSpillStore(directory, objectMapper);
+        AuditEvent first = new AuditEvent("MEMBER", 1L, "MEMBER_STATUS_CHANGED", "MEMBER", 2L,
+                "ACTIVE", "SUSPENDED", null, LocalDateTime.of(2024, 1, 1, 0, 0));
+        AuditEvent second = AuditEvent.of(null, "STUDY_CLOSED", "STUDY", 3L, "RECRUITING", "RECRUIT_CLOSED");
+
+        store.append(List.of(first));
+        store.append(List.of(second));
+
+        List<Path> files = store.pendingFiles();
+        assertThat(files).hasSize(2);
+        assertThat(store.read(files.get(0))).containsExactly(first);
+        assertThat(store.read(files.get(1))).containsExactly(second);
+        try (var entries = Files.list(directory)) {
+            assertThat(entries.filter(path -> path.toString().endsWith(".tmp"))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("재적재가 끝난 파일은 지운다")
+    void delete_removesFile() throws Exception {
+        AuditSpillStore store = new AuditSpillStore(directory, objectMapper);
+        store.append(List.of(AuditEvent.of(1L, "MEMBER_STATUS_CHANGED", "MEMBER", 1L, "ACTIVE", "SUSPENDED")));
+
+        store.delete(store.pendingFiles().get(0));
+
+        assertThat(store.pendingFiles()).isEmpty();
+    }
+}
@@ -0,0 +1,75 @@
+package com.studywithme.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studywithme.global.security.jwt.MemberPrincipal;
+import com.studywithme.member.domain.MemberRole;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 같은 MySQL 의 다른 스키마를 replica 로 두고 DATABASE() 로 어느 풀에서 커넥션을 받았는지 확인한다.
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "datasource.routing.lag-check-enabled=false",
+        "datasource.routing.replica.url=${DB_REPLICA_URL:jdbc:mysql://localhost:3306/studywithme_test_replica"
+                + "?createDatabaseIfNotExist=true&serverTimezone=Asia/Seoul&characterEncoding=UTF-8}",
+        "datasource.routing.replica.username=${DB_USERNAME:studywithme}",
+        "datasource.routing.replica.password=${DB_PASSWORD:studywithme}"
+})
+class ReplicationRoutingDataSourceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 커넥션을 쓴다")
+    void routesByTransactionReadOnlyFlag() {
+        String primary = currentDatabase(false);
+        String replica = currentDatabase(true);
+
+        assertThat(replica).isNotEqualTo(primary);
+        assertThat(replica).endsWith("_replica");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 회원의 직후 읽기는 primary 로 간다")
+    void readYourWritesStaysOnPrimary() {
+        String replica = currentDatabase(true);
+        authenticate(1L);
+        String primary = currentDatabase(false);
+
+        assertThat(currentDatabase(true)).isEqualTo(primary);
+
+        authenticate(2L);
+        assertThat(currentDatabase(true)).isEqualTo(replica);
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private void authenticate(Long memberId) {
+        MemberPrincipal principal = new MemberPrincipal(memberId, MemberRole.PARTICIPANT);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.studywithme.global.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StreamingExportWriterTest {
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            new ExportColumn<>("id", Row::id),
+            new ExportColumn<>("name", Row::name)
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("NDJSON 은 행마다 JSON 객체 한 줄을 쓴다")
+    void ndjson_writesOneObjectPerLine() throws IOException {
+        String output = export(ExportFormat.NDJSON, List.of(new Row(1L, "스터디"), new Row(2L, null)));
+
+        assertThat(output).isEqualTo("{\"id\":1,\"name\":\"스터디\"}\n{\"id\":2,\"name\":null}\n");
+    }
+
+    @Test
+    @DisplayName("CSV 는 헤더를 먼저 쓰고 쉼표와 따옴표가 든 값을 감싼다")
+    void csv_quotesSpecialCharacters() throws IOException {
+        String output = export(ExportFormat.CSV, List.of(new Row(1L, "Kim, \"JW\""), new Row(2L, null)));
+
+        assertThat(output).isEqualTo("id,name\r\n1,\"Kim, \"\"JW\"\"\"\r\n2,\r\n");
+    }
+
+    @Test
+    @DisplayName("CSV 에서 수식으로 시작하는 문자열은 실행되지 않게 작은따옴표를 붙인다")
+    void csv_neutralizesFormulas() throws IOException {
+        String output = export(ExportFormat.CSV, List.of(new Row(-1L, "=HYPERLINK(\"x\")")));
+
+        assertThat(output).endsWith("-1,\"'=HYPERLINK(\"\"x\"\")\"\r\n");
+    }
+
+    @Test
+    @DisplayName("flushEveryRows 마다 버퍼를 내보낸다")
+    void write_flushesPeriodically() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingExportWriter<Row> writer = new StreamingExportWriter<>(ExportFormat.NDJSON, COLUMNS, objectMapper, out, 2);
+
+        writer.write(new Row(1L, "a"));
+        assertThat(out.size()).isZero();
+        writer.write(new Row(2L, "b"));
+        assertThat(out.toString(StandardCharsets.UTF_8)).hasLineCount(2);
+        assertThat(writer.rows()).isEqualTo(2);
+    }
+
+    private String export(ExportFormat format, List<Row> rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StreamingExportWriter<Row> writer = new StreamingExportWriter<>(format, COLUMNS, objectMapper, out, 1_000)) {
+            for (Row row : rows) {
+                writer.write(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private record Row(Long id, String name) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.studywithme.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studywithme.global.response.ErrorResponseWriter;
+import com.studywithme.global.security.jwt.MemberPrincipal;
+import com.studywithme.global.util.HashingUtil;
+import com.studywithme.member.domain.MemberRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class IdempotencyFilterTest {
+    private static final String BODY = "{\"title\":\"study\"}";
+    private static final String RESPONSE = "{\"success\":true}";
+
+    private final IdempotencyStore store = mock(IdempotencyStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            store, new IdempotencyProperties(), new ErrorResponseWriter(new ObjectMapper()), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 실행되고, 기다린 요청은 같은 상태·본문·헤더를 재생한다")
+    void concurrentDuplicates_collapseIntoOneExecution() throws Exception {
+        when(store.findCached(any())).thenReturn(Optional.empty());
+        when(store.claim(any(), anyString())).thenReturn(IdempotencyStore.Claim.claimed(1L));
+        when(store.complete(eq(1L), any(), any())).thenReturn(true);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            HttpServletResponse created = (HttpServletResponse) response;
+            created.setStatus(201);
+            created.setHeader("Location", "/studies/1/applications/me");
+            created.setContentType("application/json");
+            response.getOutputStream().write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+        };
+
+        MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread leader = new Thread(() -> run(request(), leaderResponse, chain, failure));
+        Thread follower = new Thread(() -> run(request(), followerResponse, chain, failure));
+        leader.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        follower.start();
+        // follower 가 leader 의 결과를 기다리기 시작할 때까지 leader 를 붙잡아 둔다.
+        while (follower.getState() != Thread.State.TIMED_WAITING && follower.isAlive()) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        leader.join(5_000);
+        follower.join(5_000);
+
+        assertThat(failure.get()).isNull();
+        assertThat(executions.get()).isEqualTo(1);
+        verify(store, times(1)).claim(any(), anyString());
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "collapsed").counter().count())
+                .isEqualTo(1);
+        assertThat(leaderResponse.getStatus()).isEqualTo(201);
+        assertThat(followerResponse.getStatus()).isEqualTo(201);
+        assertThat(followerResponse.getContentAsString()).isEqualTo(RESPONSE);
+        assertThat(followerResponse.getHeader("Location")).isEqualTo("/studies/1/applications/me");
+        assertThat(followerResponse.getContentType()).startsWith("application/json");
+        assertThat(followerResponse.getHeader("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("완료된 키로 다시 오면 핸들러를 실행하지 않고 저장된 응답과 헤더를 돌려준다")
+    void completedKey_replaysStoredResponseWithHeaders() throws Exception {
+        String requestHash = HashingUtil.toHex(HashingUtil.sha256(BODY.getBytes(StandardCharsets.UTF_8)));
+        when(store.findCached(any())).thenReturn(Optional.of(new StoredResponse(requestHash, 201, RESPONSE, Map.of(
+                "Location", List.of("/studies/1/applications/me"),
+                "Content-Type", List.of("application/json;charset=UTF-8")))));
+        AtomicInteger executions = new AtomicInteger();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticate();
+
+        filter.doFilter(request(), response, (req, res) -> executions.incrementAndGet());
+
+        assertThat(executions.get()).isZero();
+        verify(store, never()).claim(any(), anyString());
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE);
+        assertThat(response.getHeader("Location")).isEqualTo("/studies/1/applications/me");
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getHeader("Idempotent-Replayed")).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("실행 중 lease 를 잃어 완료가 저장되지 않아도 응답은 그대로 나가고 lease_lost 로 집계한다")
+    void lostLease_isRecorded() throws Exception {
+        when(store.findCached(any())).thenReturn(Optional.empty());
+        when(store.claim(any(), anyString())).thenReturn(IdempotencyStore.Claim.claimed(1L));
+        when(store.complete(eq(1L), any(), any())).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticate();
+
+        filter.doFilter(request(), response, (req, res) -> {
+            res.setContentType("application/json");
+            res.getOutputStream().write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(response.getContentAsString()).isEqualTo(RESPONSE);
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "lease_lost").counter().count())
+                .isEqualTo(1);
+        verify(store, never()).abandon(any());
+    }
+
+    private void run(
+            MockHttpServletRequest request,
+            MockHttpServletResponse response,
+            FilterChain chain,
+            AtomicReference<Throwable> failure
+    ) {
+        authenticate();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Throwable ex) {
+            failure.set(ex);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static void authenticate() {
+        MemberPrincipal principal = new MemberPrincipal(1L, MemberRole.PARTICIPANT);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/studies/1/applications");
+        request.addHeader("Idempotency-Key", "key-1");
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,85 @@
+package com.studywithme.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studywithme.member.domain.Member;
+import com.studywithme.member.domain.MemberRole;
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// unique 인덱스 충돌을 실제로 일으켜야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+@SpringBootTest
+class IdempotencyStoreTest {
+
+    private static final String ENDPOINT = "POST /applications";
+    private static final String KEY = "key-1";
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(new Member(
+                "idempotency@studywithme.com", "hash", "idem", MemberRole.PARTICIPANT, MemberStatus.ACTIVE));
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyKeyRepository
+                .findByMemberIdAndEndpointAndIdempotencyKey(member.getId(), ENDPOINT, KEY)
+                .ifPresent(idempotencyKeyRepository::delete);
+        memberRepository.delete(member);
+    }
+
+    @Test
+    @DisplayName("같은 키는 한 번만 선점되고, 완료 후에는 저장된 응답을 돌려준다")
+    void claim_onlyOnceThenReturnsStoredResponse() {
+        IdempotencyScope scope = new IdempotencyScope(member.getId(), ENDPOINT, KEY);
+
+        IdempotencyStore.Claim first = idempotencyStore.claim(scope, "hash-1");
+        IdempotencyStore.Claim concurrent = idempotencyStore.claim(scope, "hash-1");
+
+        assertThat(first.isClaimed()).isTrue();
+        assertThat(concurrent.isInProgress()).isTrue();
+
+        boolean completed = idempotencyStore.complete(first.id(), scope, new StoredResponse(
+                "hash-1", 201, "{\"success\":true}", Map.of("Location", List.of("/studies/1/applications/me"))));
+        IdempotencyStore.Claim retry = idempotencyStore.claim(scope, "hash-1");
+
+        assertThat(completed).isTrue();
+        assertThat(retry.isClaimed()).isFalse();
+        assertThat(retry.existing().httpStatus()).isEqualTo(201);
+        assertThat(retry.existing().body()).isEqualTo("{\"success\":true}");
+        assertThat(retry.existing().headers()).containsEntry("Location", List.of("/studies/1/applications/me"));
+    }
+
+    @Test
+    @DisplayName("선점 행이 사라졌으면(lease 만료 후 재선점) 완료를 저장하지 않고 false 를 돌려준다")
+    void complete_lostLease_returnsFalse() {
+        IdempotencyScope scope = new IdempotencyScope(member.getId(), ENDPOINT, KEY);
+        IdempotencyStore.Claim claim = idempotencyStore.claim(scope, "hash-1");
+        idempotencyKeyRepository.deleteById(claim.id());
+
+        boolean completed = idempotencyStore.complete(
+                claim.id(), scope, new StoredResponse("hash-1", 200, "{}", Map.of()));
+
+        assertThat(completed).isFalse();
+        assertThat(idempotencyStore.findCached(scope)).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.studywithme.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class MdcTaskDecoratorTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("제출 시점의 traceId 가 작업 스레드로 전달되고, 작업 후에는 남지 않는다")
+    void decorate_propagatesAndRestoresMdc() throws Exception {
+        MDC.put("traceId", "trace-1");
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable task = new MdcTaskDecorator().decorate(() -> seen.set(MDC.get("traceId")));
+        MDC.clear();
+
+        executor.submit(task).get();
+        Future<String> after = executor.submit(() -> MDC.get("traceId"));
+
+        assertThat(seen.get()).isEqualTo("trace-1");
+        assertThat(after.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Callable 도 같은 방식으로 MDC 를 전달한다")
+    void wrap_propagatesMdcToCallable() throws Exception {
+        MDC.put("traceId", "trace-2");
+
+        Future<String> result = executor.submit(MdcTaskDecorator.wrap(() -> MDC.get("traceId")));
+
+        assertThat(result.get()).isEqualTo("trace-2");
+    }
+}
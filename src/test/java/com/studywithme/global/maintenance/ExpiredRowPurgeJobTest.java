@@ -0,0 +1,150 @@
+package com.studywithme.global.maintenance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {
+        "maintenance.purge.chunk-size=2",
+        "maintenance.purge.max-chunks-per-run=2",
+        "maintenance.purge.pause-ms=0",
+        "maintenance.purge.initial-delay-ms=3600000"
+})
+@Transactional
+class ExpiredRowPurgeJobTest {
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private ExpiredRowPurgeJob purgeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 실행이 남긴 만료 행이 chunk 예산을 쓰지 않도록 테스트 트랜잭션 안에서 먼저 비운다. (롤백된다)
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("DELETE FROM access_token_blacklist WHERE expires_at < ?", now);
+        jdbcTemplate.update("DELETE FROM idempotency_key WHERE expires_at < ?", now);
+        jdbcTemplate.update("DELETE FROM login_attempt WHERE updated_at < ?", now.minusHours(24));
+
+        jdbcTemplate.update(
+                "INSERT INTO member (email, password_hash, name, role, status) VALUES (?, ?, ?, ?, ?)",
+                "purge@studywithme.com", "hash", "purge", "PARTICIPANT", "ACTIVE"
+        );
+        memberId = jdbcTemplate.queryForObject(
+                "SELECT id FROM member WHERE email = ?", Long.class, "purge@studywithme.com");
+    }
+
+    @Test
+    @DisplayName("만료된 블랙리스트 토큰만 chunk 단위로 지우고, 한 번의 실행은 max-chunks-per-run 에서 멈춘다")
+    void purge_accessTokenBlacklist() {
+        for (int i = 0; i < 5; i++) {
+            insertBlacklist("purge-expired-" + i, EXPIRED.plusSeconds(i));
+        }
+        insertBlacklist("purge-live", LocalDateTime.now().plusHours(1));
+
+        purgeJob.purge();
+        assertThat(countBlacklist("purge-expired-%")).isEqualTo(1);
+        assertThat(countBlacklist("purge-live")).isEqualTo(1);
+
+        purgeJob.purge();
+        assertThat(countBlacklist("purge-expired-%")).isZero();
+        assertThat(countBlacklist("purge-live")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 멱등성 키만 지운다")
+    void purge_idempotencyKey() {
+        for (int i = 0; i < 3; i++) {
+            insertIdempotencyKey("purge-expired-" + i, EXPIRED.plusSeconds(i));
+        }
+        insertIdempotencyKey("purge-live", LocalDateTime.now().plusHours(1));
+
+        purgeJob.purge();
+
+        assertThat(countIdempotencyKeys("purge-expired-%")).isZero();
+        assertThat(countIdempotencyKeys("purge-live")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지났고 차단이 끝난 로그인 시도만 지운다")
+    void purge_loginAttempt() {
+        LocalDateTime old = LocalDateTime.now().minusHours(48);
+        insertLoginAttempt("old@purge.com", old, null);
+        insertLoginAttempt("old-unblocked@purge.com", old, LocalDateTime.now().minusHours(47));
+        insertLoginAttempt("old-still-blocked@purge.com", old, LocalDateTime.now().plusMinutes(10));
+        insertLoginAttempt("recent@purge.com", LocalDateTime.now().minusMinutes(5), null);
+
+        purgeJob.purge();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT email FROM login_attempt WHERE email LIKE '%@purge.com' ORDER BY email", String.class))
+                .containsExactly("old-still-blocked@purge.com", "recent@purge.com");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 purge 락을 잡고 있으면 이번 실행은 지우지 않고 건너뛴다")
+    void purge_skipsWhenLockIsHeldElsewhere() throws Exception {
+        insertBlacklist("purge-expired-locked", EXPIRED);
+
+        try (Connection other = dataSource.getConnection()) {
+            JdbcTemplate otherNode = new JdbcTemplate(new SingleConnectionDataSource(other, true));
+            assertThat(otherNode.queryForObject(
+                    "SELECT GET_LOCK('studywithme.expired_row_purge', 0)", Integer.class)).isEqualTo(1);
+            try {
+                purgeJob.purge();
+            } finally {
+                otherNode.queryForObject("SELECT RELEASE_LOCK('studywithme.expired_row_purge')", Integer.class);
+            }
+        }
+
+        assertThat(countBlacklist("purge-expired-locked")).isEqualTo(1);
+    }
+
+    private void insertBlacklist(String tokenHash, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO access_token_blacklist (token_hash, expires_at) VALUES (?, ?)", tokenHash, expiresAt);
+    }
+
+    private int countBlacklist(String pattern) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM access_token_blacklist WHERE token_hash LIKE ?", Integer.class, pattern);
+    }
+
+    private void insertIdempotencyKey(String key, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO idempotency_key (member_id, endpoint, idempotency_key, request_hash, response_body,"
+                        + " http_status, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                memberId, "POST /purge", key, "hash", "{}", 200, expiresAt
+        );
+    }
+
+    private int countIdempotencyKeys(String pattern) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM idempotency_key WHERE member_id = ? AND idempotency_key LIKE ?",
+                Integer.class, memberId, pattern);
+    }
+
+    private void insertLoginAttempt(String email, LocalDateTime updatedAt, LocalDateTime blockedUntil) {
+        jdbcTemplate.update(
+                "INSERT INTO login_attempt (email, fail_count, blocked_until, updated_at) VALUES (?, ?, ?, ?)",
+                email, 5, blockedUntil, updatedAt
+        );
+    }
+}
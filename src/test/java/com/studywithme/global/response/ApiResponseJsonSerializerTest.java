@@ -0,0 +1,32 @@
+package com.studywithme.global.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiResponseJsonSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("ApiResponse 직렬화기는 record 기본 직렬화와 같은 JSON 을 만든다")
+    @SuppressWarnings("unchecked")
+    void serialize_matchesRecordSerialization() throws Exception {
+        ObjectMapper fastMapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(
+                (Class<ApiResponse<?>>) (Class<?>) ApiResponse.class, new ApiResponseJsonSerializer()));
+        List<ApiResponse<?>> responses = List.of(
+                ApiResponse.success(Map.of("id", 1L, "name", "스터디"), "trace-1"),
+                ApiResponse.success(null, null),
+                new ApiResponse<>(false, "CUSTOM", "다른 메시지", List.of(1, 2), List.of(new ErrorField("email", "x", "invalid")), "t")
+        );
+
+        for (ApiResponse<?> response : responses) {
+            assertThat(fastMapper.writeValueAsString(response)).isEqualTo(objectMapper.writeValueAsString(response));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.studywithme.global.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studywithme.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper);
+
+    @Test
+    @DisplayName("템플릿 출력은 모든 ErrorCode 에서 Jackson 직렬화와 바이트 단위로 같다")
+    void toBytes_matchesJackson() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            byte[] expected = objectMapper.writeValueAsBytes(ErrorResponse.of(errorCode, "0af7651916cd43dd", null));
+
+            assertThat(writer.toBytes(errorCode, "0af7651916cd43dd")).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("이스케이프가 필요한 traceId 와 null traceId 도 Jackson 과 같게 쓴다")
+    void toBytes_escapesUnsafeTraceId() throws Exception {
+        String traceId = "a\"b\\c\n한글";
+
+        assertThat(writer.toBytes(ErrorCode.AUTH_UNAUTHORIZED, traceId))
+                .isEqualTo(objectMapper.writeValueAsBytes(ErrorResponse.of(ErrorCode.AUTH_UNAUTHORIZED, traceId, null)));
+        assertThat(writer.toBytes(ErrorCode.AUTH_UNAUTHORIZED, null))
+                .isEqualTo(objectMapper.writeValueAsBytes(ErrorResponse.of(ErrorCode.AUTH_UNAUTHORIZED, null, null)));
+    }
+
+    @Test
+    @DisplayName("응답에 상태 코드, JSON 콘텐츠 타입, 본문 길이를 설정한다")
+    void write_setsStatusAndBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(response, ErrorCode.AUTH_FORBIDDEN, "trace-1");
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("code").asText())
+                .isEqualTo("AUTH_FORBIDDEN");
+    }
+}
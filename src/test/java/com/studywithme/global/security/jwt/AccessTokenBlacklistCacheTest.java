@@ -0,0 +1,98 @@
+package com.studywithme.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AccessTokenBlacklistCacheTest {
+
+    private final AccessTokenBlacklistRepository repository = mock(AccessTokenBlacklistRepository.class);
+    private final TokenBlacklistProperties properties = new TokenBlacklistProperties();
+    private final AccessTokenBlacklistCache cache = new AccessTokenBlacklistCache(
+            repository,
+            properties,
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    @DisplayName("동기화 전에는 필터를 믿지 않고 DB 로 확인한다")
+    void isRevoked_beforeFirstSync_fallsBackToDatabase() {
+        when(repository.existsByTokenHashAndExpiresAtAfter(eq("hash"), any())).thenReturn(true);
+
+        assertThat(cache.isRevoked("hash")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 토큰은 DB 조회 없이 통과시킨다")
+    void isRevoked_afterSync_skipsDatabaseForUnknownToken() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        cache.sync();
+
+        assertThat(cache.isRevoked("hash")).isFalse();
+        verify(repository, never()).existsByTokenHashAndExpiresAtAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("필터를 만든 뒤 다른 노드에서 폐기된 토큰도 다음 동기화부터 거절한다")
+    void sync_picksUpTokensRevokedAfterInitialLoad() {
+        LocalDateTime now = LocalDateTime.now();
+        AccessTokenBlacklist loaded = entry("loaded", now.plusMinutes(10), now.minusMinutes(1));
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(loaded));
+        cache.sync();
+        when(repository.existsByTokenHashAndExpiresAtAfter(eq("loaded"), any())).thenReturn(true);
+        assertThat(cache.isRevoked("loaded")).isTrue();
+        assertThat(cache.isRevoked("later")).isFalse();
+
+        AccessTokenBlacklist later = entry("later", now.plusMinutes(10), now);
+        when(repository.findActiveCreatedSince(any(), any())).thenReturn(List.of(later));
+        when(repository.existsByTokenHashAndExpiresAtAfter(eq("later"), any())).thenReturn(true);
+        cache.sync();
+
+        assertThat(cache.isRevoked("later")).isTrue();
+        assertThat(cache.isRevoked("loaded")).isTrue();
+    }
+
+    @Test
+    @DisplayName("증분 동기화는 마지막 created_at 에서 겹침 구간만큼 앞선 시각부터 읽는다")
+    void sync_readsSinceWatermarkMinusOverlap() {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(1);
+        when(repository.findByExpiresAtAfter(any()))
+                .thenReturn(List.of(entry("loaded", createdAt.plusMinutes(20), createdAt)));
+        cache.sync();
+
+        cache.sync();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).findActiveCreatedSince(any(), since.capture());
+        assertThat(since.getValue()).isEqualTo(createdAt.minusSeconds(properties.getSyncOverlapSeconds()));
+    }
+
+    @Test
+    @DisplayName("만료 구간이 지난 토큰은 필터에서 빠진다")
+    void isRevoked_ignoresExpiredGeneration() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        cache.sync();
+        cache.add("expired", LocalDateTime.now().minusSeconds(properties.getBucketSeconds() * 2));
+
+        assertThat(cache.isRevoked("expired")).isFalse();
+        verify(repository, never()).existsByTokenHashAndExpiresAtAfter(any(), any());
+    }
+
+    private static AccessTokenBlacklist entry(String tokenHash, LocalDateTime expiresAt, LocalDateTime createdAt) {
+        AccessTokenBlacklist entry = new AccessTokenBlacklist(tokenHash, expiresAt);
+        ReflectionTestUtils.setField(entry, "createdAt", createdAt);
+        return entry;
+    }
+}
@@ -1,10 +1,17 @@
 package com.studywithme.global.security.jwt;
 
 import com.studywithme.member.domain.MemberRole;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtTokenProviderTest {
 
@@ -26,4 +33,44 @@ class JwtTokenProviderTest {
         assertThat(principal.role()).isEqualTo(MemberRole.LEADER);
         assertThat(refreshMemberId).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("검증된 access token 은 principal 과 만료 시각을 함께 반환하고, refresh token 은 거부한다")
+    void verifyAccessToken_returnsExpiryAndRejectsRefreshToken() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-32bytes-length!!!!--");
+        properties.setAccessTtlMinutes(15);
+        properties.setRefreshTtlDays(7);
+
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        TokenPair pair = provider.issueTokens(2L, MemberRole.PARTICIPANT);
+
+        VerifiedAccessToken verified = provider.verifyAccessToken(pair.accessToken());
+
+        assertThat(verified.principal()).isEqualTo(new MemberPrincipal(2L, MemberRole.PARTICIPANT));
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+        assertThatThrownBy(() -> provider.verifyAccessToken(pair.refreshToken()))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("서명은 맞지만 role claim 이 없는 access token 은 NPE 가 아니라 JwtException 으로 거부한다")
+    void verifyAccessToken_missingRoleClaim_throwsJwtException() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-32bytes-length!!!!--");
+        properties.setAccessTtlMinutes(15);
+        properties.setRefreshTtlDays(7);
+
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        String token = Jwts.builder()
+                .subject("3")
+                .claim("type", "access")
+                .expiration(Date.from(Instant.now().plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> provider.verifyAccessToken(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessage("Invalid role claim");
+    }
 }
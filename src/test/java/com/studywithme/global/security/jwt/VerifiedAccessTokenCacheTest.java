@@ -0,0 +1,79 @@
+package com.studywithme.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.studywithme.member.domain.MemberRole;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedAccessTokenCacheTest {
+    private static final MemberPrincipal PRINCIPAL = new MemberPrincipal(1L, MemberRole.PARTICIPANT);
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 만료 전까지 다시 서명 검증하지 않는다")
+    void resolve_cachesVerifiedToken() {
+        when(jwtTokenProvider.verifyAccessToken("token"))
+                .thenReturn(new VerifiedAccessToken(PRINCIPAL, Instant.now().plusSeconds(60)));
+        VerifiedAccessTokenCache cache = cache(true);
+
+        assertThat(cache.resolve("token", "hash")).isEqualTo(PRINCIPAL);
+        assertThat(cache.resolve("token", "hash")).isEqualTo(PRINCIPAL);
+
+        verify(jwtTokenProvider, times(1)).verifyAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 쓰지 않고 다시 검증한다")
+    void resolve_expiredEntry_isVerifiedAgain() {
+        when(jwtTokenProvider.verifyAccessToken("token"))
+                .thenReturn(new VerifiedAccessToken(PRINCIPAL, Instant.now().minusSeconds(1)));
+        VerifiedAccessTokenCache cache = cache(true);
+
+        cache.resolve("token", "hash");
+        cache.resolve("token", "hash");
+
+        verify(jwtTokenProvider, times(2)).verifyAccessToken("token");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시에 남지 않아 매번 거부된다")
+    void resolve_invalidToken_isNotCached() {
+        when(jwtTokenProvider.verifyAccessToken("forged")).thenThrow(new JwtException("Invalid signature"));
+        VerifiedAccessTokenCache cache = cache(true);
+
+        assertThatThrownBy(() -> cache.resolve("forged", "hash")).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.resolve("forged", "hash")).isInstanceOf(JwtException.class);
+
+        verify(jwtTokenProvider, times(2)).verifyAccessToken("forged");
+    }
+
+    @Test
+    @DisplayName("캐시가 꺼져 있으면 매 요청 파싱한다")
+    void resolve_disabled_parsesEveryTime() {
+        when(jwtTokenProvider.parseAccessToken("token")).thenReturn(PRINCIPAL);
+        VerifiedAccessTokenCache cache = cache(false);
+
+        cache.resolve("token", "hash");
+        cache.resolve("token", "hash");
+
+        verify(jwtTokenProvider, times(2)).parseAccessToken("token");
+        verify(jwtTokenProvider, never()).verifyAccessToken("token");
+    }
+
+    private VerifiedAccessTokenCache cache(boolean enabled) {
+        VerifiedTokenCacheProperties properties = new VerifiedTokenCacheProperties();
+        properties.setEnabled(enabled);
+        return new VerifiedAccessTokenCache(jwtTokenProvider, properties, new SimpleMeterRegistry());
+    }
+}
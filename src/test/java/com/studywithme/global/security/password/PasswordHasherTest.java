@@ -0,0 +1,84 @@
+package com.studywithme.global.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("스레드와 큐가 모두 차면 기다리지 않고 COMMON_SERVICE_BUSY 로 거절한다")
+    void encode_whenSaturated_rejectsWithServiceBusy() {
+        hasher = new PasswordHasher(properties(1, 1, 3_000), new SimpleMeterRegistry());
+        ThreadPoolExecutor pool = threadPool();
+        pool.execute(this::awaitRelease);
+        pool.execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> hasher.encode("password123"))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode()).isEqualTo(ErrorCode.COMMON_SERVICE_BUSY));
+    }
+
+    @Test
+    @DisplayName("큐에서 timeout 안에 차례가 오지 않으면 COMMON_SERVICE_BUSY 로 끊는다")
+    void matches_whenQueuedPastTimeout_rejectsWithServiceBusy() {
+        hasher = new PasswordHasher(properties(1, 4, 50), new SimpleMeterRegistry());
+        threadPool().execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> hasher.matches("password123", "$2a$04$abcdefghijklmnopqrstuu"))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode()).isEqualTo(ErrorCode.COMMON_SERVICE_BUSY));
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정과 다를 때만 다시 해시해야 한다고 판단한다")
+    void needsRehash_comparesCost() {
+        hasher = new PasswordHasher(properties(1, 1, 3_000), new SimpleMeterRegistry());
+
+        assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("password123"))).isTrue();
+        assertThat(hasher.needsRehash(hasher.encode("password123"))).isFalse();
+        assertThat(hasher.needsRehash("not-a-bcrypt-hash")).isTrue();
+    }
+
+    private ThreadPoolExecutor threadPool() {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(hasher, "threadPool");
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity, long timeoutMs) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(4);
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeoutMs(timeoutMs);
+        return properties;
+    }
+}
@@ -0,0 +1,36 @@
+package com.studywithme.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashingUtilTest {
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @Test
+    @DisplayName("SHA-256 결과를 소문자 hex 문자열로 반환한다")
+    void sha256_returnsLowercaseHex() {
+        assertThat(HashingUtil.sha256("abc")).isEqualTo(ABC_SHA256);
+    }
+
+    @Test
+    @DisplayName("byte[]/ByteBuffer 입력도 문자열 입력과 같은 해시를 만든다")
+    void sha256_byteVariantsMatchStringVariant() {
+        byte[] bytes = "abc".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(HashingUtil.toHex(HashingUtil.sha256(bytes))).isEqualTo(ABC_SHA256);
+        assertThat(HashingUtil.toHex(HashingUtil.sha256(ByteBuffer.wrap(bytes)))).isEqualTo(ABC_SHA256);
+    }
+
+    @Test
+    @DisplayName("ASCII 가 아닌 문자열도 UTF-8 기준으로 해시한다")
+    void sha256_nonAsciiUsesUtf8() {
+        String value = "스터디" + "x".repeat(600);
+
+        assertThat(HashingUtil.sha256(value))
+                .isEqualTo(HashingUtil.toHex(HashingUtil.sha256(value.getBytes(StandardCharsets.UTF_8))));
+    }
+}
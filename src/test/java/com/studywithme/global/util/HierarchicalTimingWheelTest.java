@@ -0,0 +1,76 @@
+package com.studywithme.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("마감 전에는 꺼내지 않고 마감 직후 tick 에 꺼낸다")
+    void advance_returnsKeysAtDeadline() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 10, START);
+        wheel.schedule(1L, START + 550);
+
+        assertThat(wheel.advance(START + 549)).isEmpty();
+        assertThat(wheel.advance(START + 600)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 휠에 들어간 항목도 아래 휠로 내려와 제 시각에 만료된다")
+    void advance_cascadesFromOverflowWheels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 10, START);
+        // 1단계 1초, 2단계 10초, 3단계 100초 범위
+        wheel.schedule(1L, START + 250);
+        wheel.schedule(2L, START + 4_250);
+        wheel.schedule(3L, START + 73_050);
+
+        List<Long> expired = new ArrayList<>();
+        for (long now = START; now <= START + 80_000; now += 100) {
+            for (Long key : wheel.advance(now)) {
+                expired.add(key);
+                long deadline = key == 1L ? START + 250 : key == 2L ? START + 4_250 : START + 73_050;
+                assertThat(now).isBetween(deadline, deadline + 100);
+            }
+        }
+
+        assertThat(expired).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("한 번에 멀리 건너뛰어도 지난 마감을 순서대로 모두 꺼낸다")
+    void advance_skipsEmptyTicks() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 10, START);
+        wheel.schedule(2L, START + 9_000);
+        wheel.schedule(1L, START + 300);
+
+        assertThat(wheel.advance(START + 60_000)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("취소하거나 다시 예약하면 이전 마감은 무시된다")
+    void scheduleAndCancel_replacePreviousDeadline() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 10, START);
+        wheel.schedule(1L, START + 500);
+        wheel.schedule(2L, START + 500);
+        wheel.schedule(1L, START + 5_000);
+        wheel.cancel(2L);
+
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+        assertThat(wheel.advance(START + 5_000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 예약하지 않는다")
+    void schedule_rejectsPastDeadline() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(100, 10, START);
+
+        assertThat(wheel.schedule(1L, START - 1)).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
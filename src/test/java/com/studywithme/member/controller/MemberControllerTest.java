@@ -5,6 +5,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.studywithme.global.security.jwt.AccessTokenBlacklist;
+import com.studywithme.global.security.jwt.AccessTokenBlacklistCache;
+import com.studywithme.global.security.jwt.AccessTokenBlacklistRepository;
+import com.studywithme.global.security.jwt.JwtTokenProvider;
+import com.studywithme.global.util.HashingUtil;
+import com.studywithme.member.domain.Member;
+import com.studywithme.member.domain.MemberRole;
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.member.service.MemberService;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +32,21 @@ class MemberControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private AccessTokenBlacklistRepository accessTokenBlacklistRepository;
+
+    @Autowired
+    private AccessTokenBlacklistCache accessTokenBlacklistCache;
+
     @Test
     @DisplayName("인증 없이 내 정보 조회 시 401을 반환한다")
     void me_withoutToken_returnsUnauthorized() throws Exception {
@@ -36,4 +62,58 @@ class MemberControllerTest {
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.code").value("AUTH_UNAUTHORIZED"));
     }
+
+    @Test
+    @DisplayName("정지된 회원의 토큰은 상태 캐시 TTL 을 기다리지 않고 바로 거절된다")
+    void me_afterSuspension_returnsForbidden() throws Exception {
+        Member member = memberRepository.save(new Member(
+                "suspended@studywithme.com",
+                "hash",
+                "suspended",
+                MemberRole.PARTICIPANT,
+                MemberStatus.ACTIVE
+        ));
+        String accessToken = jwtTokenProvider.issueTokens(member.getId(), MemberRole.PARTICIPANT).accessToken();
+
+        // 첫 요청으로 ACTIVE 상태를 캐시에 올린다.
+        mockMvc.perform(get("/members/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        memberService.changeStatus(member.getId(), MemberStatus.SUSPENDED);
+
+        mockMvc.perform(get("/members/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("AUTH_FORBIDDEN"));
+
+        memberService.changeStatus(member.getId(), MemberStatus.ACTIVE);
+
+        mockMvc.perform(get("/members/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("이미 검증되어 캐시된 토큰도 다른 노드에서 블랙리스트에 오르면 동기화 후 거절된다")
+    void me_afterBlacklistSync_returnsUnauthorized() throws Exception {
+        Member member = memberRepository.save(new Member(
+                "blacklisted@studywithme.com",
+                "hash",
+                "blacklisted",
+                MemberRole.PARTICIPANT,
+                MemberStatus.ACTIVE
+        ));
+        String accessToken = jwtTokenProvider.issueTokens(member.getId(), MemberRole.PARTICIPANT).accessToken();
+        mockMvc.perform(get("/members/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        // 다른 노드의 로그아웃처럼 이 노드의 필터를 거치지 않고 테이블에만 기록한다.
+        accessTokenBlacklistRepository.save(new AccessTokenBlacklist(
+                HashingUtil.sha256(accessToken),
+                LocalDateTime.now().plusMinutes(15)
+        ));
+        accessTokenBlacklistCache.sync();
+
+        mockMvc.perform(get("/members/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("AUTH_UNAUTHORIZED"));
+    }
 }
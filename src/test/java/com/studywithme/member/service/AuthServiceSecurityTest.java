@@ -12,15 +12,20 @@ import com.studywithme.global.util.HashingUtil;
 import com.studywithme.member.domain.Member;
 import com.studywithme.member.domain.MemberRole;
 import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.domain.RefreshToken;
 import com.studywithme.member.dto.LoginRequest;
 import com.studywithme.member.dto.RefreshTokenRequest;
-import com.studywithme.member.repository.LoginAttemptRepository;
+import com.studywithme.member.dto.TokenResponse;
 import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.member.repository.RefreshTokenRepository;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +40,10 @@ class AuthServiceSecurityTest {
     private MemberRepository memberRepository;
 
     @Autowired
-    private LoginAttemptRepository loginAttemptRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LoginAttemptLimiter loginAttemptLimiter;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -46,6 +54,9 @@ class AuthServiceSecurityTest {
     @Autowired
     private AccessTokenBlacklistRepository accessTokenBlacklistRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Test
     @DisplayName("로그인 실패 5회 후 로그인 시도 시 차단된다")
     void loginBlockedAfterFailures() {
@@ -71,12 +82,43 @@ class AuthServiceSecurityTest {
                 .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
                         .isEqualTo(ErrorCode.AUTH_LOGIN_BLOCKED));
 
-        assertThat(loginAttemptRepository.findById("blocked@studywithme.com")).isPresent();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_attempt WHERE email = ? AND blocked_until IS NOT NULL",
+                Integer.class,
+                "blocked@studywithme.com"
+        )).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 건 차단을 동기화하면 이 노드에서도 올바른 비밀번호로 로그인할 수 없다")
+    void loginBlockedBySyncedBlockFromOtherNode() {
+        Member member = new Member(
+                "synced-block@studywithme.com",
+                passwordEncoder.encode("password123"),
+                "synced",
+                MemberRole.PARTICIPANT,
+                MemberStatus.ACTIVE
+        );
+        memberRepository.save(member);
+        jdbcTemplate.update(
+                "INSERT INTO login_attempt (email, fail_count, blocked_until, last_failed_at) VALUES (?, ?, ?, ?)",
+                "synced-block@studywithme.com",
+                5,
+                Timestamp.valueOf(LocalDateTime.now().plusMinutes(10)),
+                Timestamp.valueOf(LocalDateTime.now())
+        );
+
+        loginAttemptLimiter.syncBlocks();
+
+        assertThatThrownBy(() -> authService.login(new LoginRequest("synced-block@studywithme.com", "password123")))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.AUTH_LOGIN_BLOCKED));
     }
 
     @Test
-    @DisplayName("Refresh 토큰 재사용 감지 시 토큰이 무효화된다")
-    void refreshReuseClearsToken() {
+    @DisplayName("Refresh 토큰 재사용 감지 시 같은 기기의 토큰이 모두 무효화된다")
+    void refreshReuseRevokesFamily() {
         Member member = new Member(
                 "reuse@studywithme.com",
                 passwordEncoder.encode("password123"),
@@ -84,18 +126,24 @@ class AuthServiceSecurityTest {
                 MemberRole.PARTICIPANT,
                 MemberStatus.ACTIVE
         );
-        Member saved = memberRepository.save(member);
-        TokenPair usedToken = jwtTokenProvider.issueTokens(saved.getId(), saved.getRole());
-        member.updateRefreshToken(HashingUtil.sha256("different-refresh-token"), LocalDateTime.now().plusDays(7));
+        memberRepository.save(member);
+        TokenResponse first = authService.login(new LoginRequest("reuse@studywithme.com", "password123"));
+        TokenResponse otherDevice = authService.login(new LoginRequest("reuse@studywithme.com", "password123"));
+        TokenResponse rotated = authService.refresh(new RefreshTokenRequest(first.refreshToken()));
 
-        RefreshTokenRequest request = new RefreshTokenRequest(usedToken.refreshToken());
-        assertThatThrownBy(() -> authService.refresh(request))
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest(first.refreshToken())))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.AUTH_UNAUTHORIZED));
+        assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest(rotated.refreshToken())))
                 .isInstanceOf(ApiException.class)
                 .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
                         .isEqualTo(ErrorCode.AUTH_UNAUTHORIZED));
 
-        Member reloaded = memberRepository.findById(saved.getId()).orElseThrow();
-        assertThat(reloaded.getRefreshTokenHash()).isNull();
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(HashingUtil.sha256(rotated.refreshToken()))
+                .orElseThrow();
+        assertThat(stored.isRevoked()).isTrue();
+        assertThat(authService.refresh(new RefreshTokenRequest(otherDevice.refreshToken())).refreshToken()).isNotBlank();
     }
 
     @Test
@@ -115,4 +163,41 @@ class AuthServiceSecurityTest {
 
         assertThat(accessTokenBlacklistRepository.existsById(HashingUtil.sha256(pair.accessToken()))).isTrue();
     }
+
+    @Test
+    @DisplayName("로그인에 성공하면 설정과 cost 가 다른 해시를 현재 cost 로 다시 저장한다")
+    void loginRehashesOutdatedPasswordHash() {
+        String outdatedHash = new BCryptPasswordEncoder(4).encode("password123");
+        Member member = memberRepository.save(new Member(
+                "rehash@studywithme.com",
+                outdatedHash,
+                "rehash",
+                MemberRole.PARTICIPANT,
+                MemberStatus.ACTIVE
+        ));
+
+        authService.login(new LoginRequest("rehash@studywithme.com", "password123"));
+
+        String storedHash = memberRepository.findById(member.getId()).orElseThrow().getPasswordHash();
+        assertThat(storedHash).isNotEqualTo(outdatedHash);
+        assertThat(passwordEncoder.matches("password123", storedHash)).isTrue();
+        assertThat(storedHash).startsWith(passwordEncoder.encode("x").substring(0, 7));
+    }
+
+    @Test
+    @DisplayName("현재 cost 의 해시는 로그인해도 다시 해시하지 않는다")
+    void loginKeepsCurrentPasswordHash() {
+        String currentHash = passwordEncoder.encode("password123");
+        Member member = memberRepository.save(new Member(
+                "current@studywithme.com",
+                currentHash,
+                "current",
+                MemberRole.PARTICIPANT,
+                MemberStatus.ACTIVE
+        ));
+
+        authService.login(new LoginRequest("current@studywithme.com", "password123"));
+
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getPasswordHash()).isEqualTo(currentHash);
+    }
 }
@@ -0,0 +1,42 @@
+package com.studywithme.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class EmailExistenceFilterTest {
+
+    private final EmailExistenceFilter filter = new EmailExistenceFilter(
+            new JdbcTemplate(),
+            new EmailExistenceFilterProperties(),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    @DisplayName("적재 전에는 모든 이메일을 MAYBE 로 본다")
+    void check_beforeLoad_returnsMaybe() {
+        assertThat(filter.check("new@studywithme.com")).isEqualTo(EmailExistenceFilter.Result.MAYBE);
+    }
+
+    @Test
+    @DisplayName("적재 후 가입된 이메일은 대소문자와 관계없이 MAYBE, 처음 보는 이메일은 ABSENT 다")
+    void check_afterLoad_distinguishesKnownEmails() {
+        filter.loadFrom(List.of("member@studywithme.com"));
+
+        assertThat(filter.check("Member@StudyWithMe.com")).isEqualTo(EmailExistenceFilter.Result.MAYBE);
+        assertThat(filter.check("new@studywithme.com")).isEqualTo(EmailExistenceFilter.Result.ABSENT);
+    }
+
+    @Test
+    @DisplayName("중복으로 확인된 이메일은 DB 조회 없이 EXISTS 로 판정한다")
+    void confirmExists_returnsExists() {
+        filter.loadFrom(List.of());
+        filter.confirmExists("dup@studywithme.com");
+
+        assertThat(filter.check("dup@studywithme.com")).isEqualTo(EmailExistenceFilter.Result.EXISTS);
+    }
+}
@@ -0,0 +1,181 @@
+package com.studywithme.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class LoginAttemptLimiterTest {
+    private static final String EMAIL = "brute@studywithme.com";
+    private static final String IP = "10.0.0.1";
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+
+    @Test
+    @DisplayName("동시에 실패가 몰려도 횟수를 잃지 않고 한 번만 차단을 기록한다")
+    void recordFailure_concurrentFailures_blockOnce() throws Exception {
+        LoginAttemptLimiter limiter = limiter(new LoginAttemptProperties());
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            executor.submit(() -> {
+                start.await();
+                limiter.recordFailure(EMAIL, null);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(limiter.isBlocked(EMAIL)).isTrue();
+        assertThat(jdbcTemplate.updates).hasSize(1);
+        assertThat(jdbcTemplate.updates.get(0)[0]).isEqualTo(EMAIL);
+        assertThat(jdbcTemplate.updates.get(0)[1]).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 이메일 버킷이 다시 찬다")
+    void recordSuccess_resetsEmailBucket() {
+        LoginAttemptLimiter limiter = limiter(new LoginAttemptProperties());
+        for (int i = 0; i < 4; i++) {
+            limiter.recordFailure(EMAIL, null);
+        }
+        limiter.recordSuccess(EMAIL);
+        for (int i = 0; i < 4; i++) {
+            limiter.recordFailure(EMAIL, null);
+        }
+
+        assertThat(limiter.isBlocked(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 IP 에서 여러 계정을 시도하면 IP 단위로 감속되고, 다른 계정은 차단되지 않는다")
+    void recordFailure_manyEmailsFromOneIp_throttlesIp() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setIpMaxFailures(3);
+        LoginAttemptLimiter limiter = limiter(properties);
+        for (int i = 0; i < 3; i++) {
+            limiter.recordFailure("user" + i + "@studywithme.com", IP);
+        }
+
+        assertThat(limiter.isThrottled(IP)).isTrue();
+        assertThat(limiter.isThrottled("10.0.0.2")).isFalse();
+        assertThat(limiter.isBlocked("other@studywithme.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("IP 버킷은 차단 시간을 두지 않고 토큰이 한 개 차면 다시 시도를 받는다")
+    void ipBucket_recoversAsSoonAsOneTokenRefills() {
+        // 3개가 60초에 걸쳐 차므로 20초마다 한 번
+        LoginAttemptLimiter.TokenBucket bucket = new LoginAttemptLimiter.TokenBucket(3, 60_000, 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.consume(0);
+        }
+
+        assertThat(bucket.isDepleted(0)).isTrue();
+        assertThat(bucket.isDepleted(19_000)).isTrue();
+        assertThat(bucket.isDepleted(20_000)).isFalse();
+        bucket.consume(20_000);
+        assertThat(bucket.isDepleted(20_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("차단된 버킷은 maximum-size 를 넘어도 쫓겨나지 않는다")
+    void blockedBucket_isNotEvictedBySize() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setMaximumSize(10);
+        LoginAttemptLimiter limiter = limiter(properties);
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure(EMAIL, null);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.recordFailure("user" + i + "@studywithme.com", null);
+        }
+        limiter.cleanUp();
+
+        assertThat(limiter.isBlocked(EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("차단 전 실패와 초기화는 flush 에서 한 번에 반영된다")
+    void flush_writesPendingChangesInBatches() {
+        LoginAttemptLimiter limiter = limiter(new LoginAttemptProperties());
+        limiter.recordFailure(EMAIL, null);
+        limiter.recordFailure("reset@studywithme.com", null);
+        limiter.recordSuccess("reset@studywithme.com");
+
+        assertThat(jdbcTemplate.updates).isEmpty();
+        limiter.flush();
+
+        assertThat(jdbcTemplate.batches).hasSize(2);
+        assertThat(jdbcTemplate.batches.get(0).sql()).startsWith("DELETE");
+        assertThat(jdbcTemplate.batches.get(0).rows().get(0)[0]).isEqualTo("reset@studywithme.com");
+        assertThat(jdbcTemplate.batches.get(1).sql()).startsWith("INSERT");
+        assertThat(jdbcTemplate.batches.get(1).rows().get(0)[1]).isEqualTo(1);
+
+        limiter.flush();
+        assertThat(jdbcTemplate.batches).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("기동 복구 전에는 메모리에 없는 차단을 DB 에서 확인하고, 복구 후에는 메모리만 본다")
+    void isBlocked_beforeWarmUp_fallsBackToDatabase() {
+        LoginAttemptLimiter limiter = limiter(new LoginAttemptProperties());
+        jdbcTemplate.blockedRows = 1;
+
+        assertThat(limiter.isWarmedUp()).isFalse();
+        assertThat(limiter.isBlocked(EMAIL)).isTrue();
+
+        limiter.warmUp();
+
+        assertThat(limiter.isWarmedUp()).isTrue();
+        assertThat(limiter.isBlocked(EMAIL)).isFalse();
+    }
+
+    private LoginAttemptLimiter limiter(LoginAttemptProperties properties) {
+        return new LoginAttemptLimiter(jdbcTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Object[]> updates = Collections.synchronizedList(new ArrayList<>());
+        private final List<Batch> batches = new ArrayList<>();
+        private volatile int blockedRows;
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            return requiredType.cast(blockedRows);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            return List.of();
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            updates.add(args);
+            return 1;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batches.add(new Batch(sql, batchArgs));
+            return new int[batchArgs.size()];
+        }
+    }
+
+    private record Batch(String sql, List<Object[]> rows) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.studywithme.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MemberStatusCacheTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final MemberStatusCache cache = new MemberStatusCache(
+            memberRepository,
+            new MemberStatusCacheProperties(),
+            new SimpleMeterRegistry()
+    );
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 DB 를 다시 조회하지 않는다")
+    void getStatus_cachesWithinTtl() {
+        when(memberRepository.findStatusById(1L)).thenReturn(Optional.of(MemberStatus.ACTIVE));
+
+        cache.getStatus(1L);
+        cache.getStatus(1L);
+
+        verify(memberRepository, times(1)).findStatusById(1L);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 변경된 상태를 바로 읽는다")
+    void evict_reloadsChangedStatus() {
+        when(memberRepository.findStatusById(1L))
+                .thenReturn(Optional.of(MemberStatus.ACTIVE))
+                .thenReturn(Optional.of(MemberStatus.SUSPENDED));
+        assertThat(cache.getStatus(1L)).contains(MemberStatus.ACTIVE);
+
+        cache.evict(1L);
+
+        assertThat(cache.getStatus(1L)).contains(MemberStatus.SUSPENDED);
+    }
+
+    @Test
+    @DisplayName("커밋 전에 이전 상태가 다시 적재되어도 커밋 후 한 번 더 비운다")
+    void evictAfterCommit_evictsAgainAfterCommit() {
+        when(memberRepository.findStatusById(1L))
+                .thenReturn(Optional.of(MemberStatus.ACTIVE))
+                .thenReturn(Optional.of(MemberStatus.SUSPENDED));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAfterCommit(1L);
+        // 커밋 전에 다른 요청이 아직 커밋되지 않은 이전 상태를 적재한다.
+        assertThat(cache.getStatus(1L)).contains(MemberStatus.ACTIVE);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.getStatus(1L)).contains(MemberStatus.SUSPENDED);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 캐싱하지 않는다")
+    void getStatus_doesNotCacheMissingMember() {
+        when(memberRepository.findStatusById(2L)).thenReturn(Optional.empty());
+
+        assertThat(cache.getStatus(2L)).isEmpty();
+        assertThat(cache.getStatus(2L)).isEmpty();
+
+        verify(memberRepository, times(2)).findStatusById(2L);
+    }
+}
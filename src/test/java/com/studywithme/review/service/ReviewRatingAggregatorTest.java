@@ -0,0 +1,110 @@
+package com.studywithme.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.studywithme.review.domain.ReviewRatingChangedEvent;
+import com.studywithme.review.dto.ReviewRating;
+import com.studywithme.review.dto.ReviewRatingCount;
+import com.studywithme.review.dto.ReviewRatingSummary;
+import com.studywithme.review.repository.ReviewRatingMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ReviewRatingAggregatorTest {
+    private final ReviewRatingMapper reviewRatingMapper = mock(ReviewRatingMapper.class);
+    private final ReviewRatingAggregator aggregator = new ReviewRatingAggregator(
+            reviewRatingMapper, mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("리뷰 작성/수정/삭제 이벤트로 개수, 평균, 분포가 증분 갱신된다")
+    void onRatingChanged_updatesSummaryIncrementally() {
+        aggregator.rebuild();
+        aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 10L, 5));
+        aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 11L, 3));
+        aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 12L, 4));
+        aggregator.onRatingChanged(ReviewRatingChangedEvent.changed(1L, 11L, 3, 1));
+        aggregator.onRatingChanged(ReviewRatingChangedEvent.deleted(1L, 12L, 4));
+
+        ReviewRatingSummary summary = aggregator.getSummary(1L);
+
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.average()).isEqualTo(3.0);
+        assertThat(summary.histogram()).containsExactly(1L, 0L, 0L, 0L, 1L);
+        assertThat(aggregator.getSummary(2L)).isEqualTo(ReviewRatingSummary.EMPTY);
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 집계로 메모리 값을 덮어쓴다")
+    void rebuild_replacesWithDatabaseAggregate() {
+        aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 10L, 1));
+        when(reviewRatingMapper.countByStudyAndRating()).thenReturn(List.of(
+                new ReviewRatingCount(1L, 5, 3),
+                new ReviewRatingCount(1L, 4, 1),
+                new ReviewRatingCount(2L, 2, 2)
+        ));
+
+        aggregator.rebuild();
+
+        assertThat(aggregator.getSummary(1L).count()).isEqualTo(4);
+        assertThat(aggregator.getSummary(1L).average()).isEqualTo(4.75);
+        assertThat(aggregator.getSummary(2L).histogram()).containsExactly(0L, 2L, 0L, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 변경이 이미 스냅샷에 담겨 있으면 두 번 세지 않는다")
+    void rebuild_changeAlreadyInSnapshot_isNotDoubleCounted() {
+        when(reviewRatingMapper.countByStudyAndRating()).thenAnswer(invocation -> {
+            // 커밋은 스냅샷보다 먼저, 리스너는 재구성이 시작된 뒤에 돈 경우
+            aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 10L, 5));
+            return List.of(new ReviewRatingCount(1L, 5, 1));
+        });
+        when(reviewRatingMapper.findRatingsByIds(any())).thenReturn(List.of(new ReviewRating(10L, 1L, 5)));
+
+        aggregator.rebuild();
+
+        assertThat(aggregator.getSummary(1L).histogram()).containsExactly(0L, 0L, 0L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 변경 중 스냅샷 이후 커밋된 것만 새 집계에 반영한다")
+    void rebuild_changeAfterSnapshot_isApplied() {
+        when(reviewRatingMapper.countByStudyAndRating()).thenAnswer(invocation -> {
+            aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 10L, 5));
+            aggregator.onRatingChanged(ReviewRatingChangedEvent.changed(1L, 11L, 2, 4));
+            aggregator.onRatingChanged(ReviewRatingChangedEvent.created(1L, 12L, 3));
+            aggregator.onRatingChanged(ReviewRatingChangedEvent.deleted(1L, 12L, 3));
+            // 리뷰 10 의 작성만 스냅샷에 담겼다.
+            return List.of(new ReviewRatingCount(1L, 5, 1), new ReviewRatingCount(1L, 2, 1));
+        });
+        when(reviewRatingMapper.findRatingsByIds(any())).thenReturn(List.of(
+                new ReviewRating(10L, 1L, 5),
+                new ReviewRating(11L, 1L, 2)
+        ));
+
+        aggregator.rebuild();
+
+        assertThat(aggregator.getSummary(1L).histogram()).containsExactly(0L, 0L, 0L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("첫 적재 전에는 그 스터디의 평점을 DB 에서 집계해 돌려준다")
+    void getSummary_beforeWarmUp_readsDatabase() {
+        when(reviewRatingMapper.countByStudy(1L)).thenReturn(List.of(
+                new ReviewRatingCount(1L, 5, 2),
+                new ReviewRatingCount(1L, 2, 2)
+        ));
+
+        assertThat(aggregator.isWarmedUp()).isFalse();
+        ReviewRatingSummary summary = aggregator.getSummary(1L);
+
+        assertThat(summary.count()).isEqualTo(4);
+        assertThat(summary.average()).isEqualTo(3.5);
+        assertThat(summary.histogram()).containsExactly(0L, 2L, 0L, 0L, 2L);
+    }
+}
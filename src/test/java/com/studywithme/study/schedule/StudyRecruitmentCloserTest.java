@@ -0,0 +1,107 @@
+package com.studywithme.study.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.studywithme.study.domain.StudyChangedEvent;
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.repository.StudyRecruitmentMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+class StudyRecruitmentCloserTest {
+    private final StudyRecruitmentMapper studyRecruitmentMapper = mock(StudyRecruitmentMapper.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StudyRecruitmentCloser closer = new StudyRecruitmentCloser(
+            studyRecruitmentMapper, eventPublisher, properties(), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        closer.shutdown();
+    }
+
+    @Test
+    @DisplayName("기동 시 밀린 마감을 닫는 중 리스너가 실패해도 남은 id 와 뒤 배치를 계속 처리한다")
+    void start_listenerFailure_doesNotStopCatchUp() {
+        when(studyRecruitmentMapper.findOverdueIds(any(), eq(0L), anyInt())).thenReturn(List.of(1L, 2L));
+        when(studyRecruitmentMapper.findOverdueIds(any(), eq(2L), anyInt())).thenReturn(List.of(3L));
+        when(studyRecruitmentMapper.closeRecruitment(anyList(), any()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        doThrow(new IllegalStateException("listener"))
+                .when(eventPublisher).publishEvent((Object) new StudyChangedEvent(1L));
+
+        closer.warmUp();
+
+        verify(studyRecruitmentMapper).closeRecruitment(eq(List.of(3L)), any());
+        verify(eventPublisher).publishEvent((Object) new StudyChangedEvent(2L));
+        verify(eventPublisher).publishEvent((Object) new StudyChangedEvent(3L));
+        assertThat(meterRegistry.get("study.recruitment.closed").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("study.recruitment.notify.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기동 시 첫 배치 닫기가 DB 오류로 실패해도 뒤 쪽의 밀린 마감을 계속 닫고, 실패한 id 는 휠에 올려 재시도한다")
+    void start_firstBatchFails_keepsPagingAndSchedulesRetry() {
+        when(studyRecruitmentMapper.findOverdueIds(any(), eq(0L), anyInt())).thenReturn(List.of(1L, 2L));
+        when(studyRecruitmentMapper.findOverdueIds(any(), eq(2L), anyInt())).thenReturn(List.of(3L, 4L));
+        when(studyRecruitmentMapper.findOverdueIds(any(), eq(4L), anyInt())).thenReturn(List.of(5L));
+        when(studyRecruitmentMapper.closeRecruitment(anyList(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        closer.warmUp();
+
+        verify(studyRecruitmentMapper).closeRecruitment(eq(List.of(3L, 4L)), any());
+        verify(studyRecruitmentMapper).closeRecruitment(eq(List.of(5L)), any());
+        assertThat(meterRegistry.get("study.recruitment.closed").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("study.recruitment.close.failures").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("study.recruitment.scheduled").gauge().value()).isEqualTo(2);
+        assertThat(closer.isWarmedUp()).isTrue();
+    }
+
+    @Test
+    @DisplayName("tick 에서 리스너가 실패해도 이미 휠에서 꺼낸 나머지 배치를 잃지 않는다")
+    void tick_listenerFailure_closesRemainingBatches() throws InterruptedException {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        for (long id = 1; id <= 3; id++) {
+            when(studyRecruitmentMapper.findById(id))
+                    .thenReturn(new StudyRecruitmentDeadline(id, StudyStatus.RECRUITING, past));
+            closer.onStudyChanged(new StudyChangedEvent(id));
+        }
+        when(studyRecruitmentMapper.closeRecruitment(anyList(), any()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        doThrow(new IllegalStateException("listener"))
+                .when(eventPublisher).publishEvent((Object) new StudyChangedEvent(1L));
+
+        Thread.sleep(50);
+        closer.tick();
+
+        verify(studyRecruitmentMapper, times(2)).closeRecruitment(anyList(), any());
+        for (long id = 1; id <= 3; id++) {
+            verify(eventPublisher).publishEvent((Object) new StudyChangedEvent(id));
+        }
+        assertThat(meterRegistry.get("study.recruitment.closed").counter().count()).isEqualTo(3);
+    }
+
+    private static StudyRecruitmentProperties properties() {
+        StudyRecruitmentProperties properties = new StudyRecruitmentProperties();
+        properties.setTickMs(10);
+        properties.setBatchSize(2);
+        return properties;
+    }
+}
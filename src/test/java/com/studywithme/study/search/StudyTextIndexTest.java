@@ -0,0 +1,53 @@
+package com.studywithme.study.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.search.StudyTextIndex.StudySearchFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudyTextIndexTest {
+    private final StudyTextIndex index = new StudyTextIndex();
+
+    @Test
+    @DisplayName("한글은 2-gram 으로 부분 문자열이 검색되고, 제목에 나온 문서가 더 높게 정렬된다")
+    void search_koreanSubstringRankedByTitle() {
+        index.upsert(document(1L, "자바 스터디", "스프링 부트로 백엔드 개발", StudyStatus.RECRUITING, "backend"));
+        index.upsert(document(2L, "알고리즘 모임", "자바스크립트와 자바로 문제 풀이", StudyStatus.RECRUITING, "algorithm"));
+        index.upsert(document(3L, "영어 회화", "매일 아침 회화 연습", StudyStatus.RECRUITING, "language"));
+
+        assertThat(index.search("자바", StudySearchFilter.NONE, 10))
+                .extracting(StudySearchHit::studyId)
+                .containsExactly(1L, 2L);
+        assertThat(index.search("백엔드 개발", StudySearchFilter.NONE, 10))
+                .extracting(StudySearchHit::studyId)
+                .containsExactly(1L);
+        assertThat(index.search("Spring", StudySearchFilter.NONE, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("status/category 필터와 교집합하고, 문서를 다시 색인하면 이전 term 은 빠진다")
+    void search_filtersAndReindex() {
+        index.upsert(document(1L, "Spring Boot 스터디", "JPA", StudyStatus.RECRUITING, "backend"));
+        index.upsert(document(2L, "Spring 입문", "기초", StudyStatus.COMPLETED, "backend"));
+
+        assertThat(index.search("spring", new StudySearchFilter(StudyStatus.RECRUITING, "backend", null), 10))
+                .extracting(StudySearchHit::studyId)
+                .containsExactly(1L);
+
+        index.upsert(document(1L, "Kotlin 스터디", "코루틴", StudyStatus.RECRUITING, "backend"));
+
+        assertThat(index.search("spring", StudySearchFilter.NONE, 10))
+                .extracting(StudySearchHit::studyId)
+                .containsExactly(2L);
+        assertThat(index.search("코", StudySearchFilter.NONE, 10))
+                .extracting(StudySearchHit::studyId)
+                .containsExactly(1L);
+    }
+
+    private static StudyDocument document(Long id, String title, String description, StudyStatus status,
+                                          String category) {
+        return new StudyDocument(id, title, description, status, category, null);
+    }
+}
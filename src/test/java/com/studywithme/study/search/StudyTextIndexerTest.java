@@ -0,0 +1,80 @@
+package com.studywithme.study.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.studywithme.study.domain.StudyChangedEvent;
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.repository.StudyIndexMapper;
+import com.studywithme.study.search.StudyTextIndex.StudySearchFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class StudyTextIndexerTest {
+    private final StudyIndexMapper studyIndexMapper = mock(StudyIndexMapper.class);
+    private final StudyTextIndexer indexer =
+            new StudyTextIndexer(studyIndexMapper, new StudyTextIndexProperties(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("기동 적재가 실패해도 예외를 던지지 않고, 재시도에서 적재한다")
+    void load_failureIsRetried() {
+        when(studyIndexMapper.findAfter(anyLong(), anyInt(), anyInt()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of(document(1L, "자바 스터디")));
+
+        indexer.warmUp();
+        assertThat(indexer.isWarmedUp()).isFalse();
+
+        indexer.retryLoad();
+
+        assertThat(indexer.isWarmedUp()).isTrue();
+        assertThat(search("자바")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구성은 다른 노드에서 바뀐 내용으로 색인을 통째로 교체한다")
+    void rebuild_replacesIndexWithDatabaseState() {
+        when(studyIndexMapper.findAfter(anyLong(), anyInt(), anyInt()))
+                .thenReturn(List.of(document(1L, "자바 스터디"), document(2L, "자바 입문")))
+                .thenReturn(List.of(document(2L, "코틀린 입문")));
+        indexer.warmUp();
+
+        indexer.rebuild();
+
+        assertThat(search("자바")).isEmpty();
+        assertThat(search("코틀린")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 바뀐 스터디는 교체 후 다시 읽어 새 색인에 반영한다")
+    void rebuild_reindexesStudiesChangedDuringRebuild() {
+        when(studyIndexMapper.findAfter(anyLong(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            // 이 chunk 를 읽은 뒤에 커밋된 변경
+            indexer.onStudyChanged(new StudyChangedEvent(1L));
+            return List.of(document(1L, "자바 스터디"));
+        });
+        when(studyIndexMapper.findById(eq(1L), anyInt())).thenReturn(document(1L, "코틀린 스터디"));
+
+        indexer.rebuild();
+
+        assertThat(search("자바")).isEmpty();
+        assertThat(search("코틀린")).containsExactly(1L);
+    }
+
+    private List<Long> search(String query) {
+        return indexer.index().search(query, StudySearchFilter.NONE, 10).stream()
+                .map(StudySearchHit::studyId)
+                .toList();
+    }
+
+    private static StudyDocument document(Long id, String title) {
+        return new StudyDocument(id, title, "", StudyStatus.RECRUITING, "backend", null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.studywithme.study.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.study.repository.CapacityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CapacityReservationEngineTest {
+    private static final long STUDY_ID = 1L;
+
+    private final CapacityRepository capacityRepository = mock(CapacityRepository.class);
+    private final CapacityReservationEngine engine = new CapacityReservationEngine(
+            capacityRepository,
+            new CapacityReservationProperties(),
+            new SimpleMeterRegistry()
+    );
+
+    @Test
+    @DisplayName("동시 신청이 몰려도 정원만큼만 확정되고, 매진 후 요청은 DB 에 가지 않는다")
+    void reserve_concurrentApplicants_neverOverbook() throws Exception {
+        int seats = 50;
+        int applicants = 400;
+        AtomicInteger remain = new AtomicInteger(seats);
+        when(capacityRepository.findRemainByStudyId(STUDY_ID)).thenAnswer(invocation -> Optional.of(remain.get()));
+        when(capacityRepository.decrementRemain(STUDY_ID)).thenAnswer(invocation -> decrementIfPositive(remain));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < applicants; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    engine.reserve(STUDY_ID);
+                    return true;
+                } catch (ApiException ex) {
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.CAPACITY_INSUFFICIENT);
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int confirmed = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) {
+                confirmed++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(confirmed).isEqualTo(seats);
+        assertThat(remain.get()).isZero();
+        verify(capacityRepository, times(seats)).decrementRemain(STUDY_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 좌석을 먼저 가져가 DB 차감이 실패하면 정원 부족으로 거절하고, 게이트를 DB 값으로 다시 만든다")
+    void reserve_dbRejects_throwsCapacityInsufficient() {
+        when(capacityRepository.findRemainByStudyId(STUDY_ID)).thenReturn(Optional.of(3), Optional.of(0));
+        when(capacityRepository.decrementRemain(STUDY_ID)).thenReturn(0);
+
+        assertThatThrownBy(() -> engine.reserve(STUDY_ID))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.CAPACITY_INSUFFICIENT));
+        assertThatThrownBy(() -> engine.reserve(STUDY_ID)).isInstanceOf(ApiException.class);
+        verify(capacityRepository, times(2)).findRemainByStudyId(STUDY_ID);
+        verify(capacityRepository, times(1)).decrementRemain(anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 거절 뒤 다른 노드의 롤백·취소로 좌석이 생기면 TTL 을 기다리지 않고 다음 요청에서 확정한다")
+    void reserve_afterDbReject_seesSeatFreedElsewhere() {
+        when(capacityRepository.findRemainByStudyId(STUDY_ID)).thenReturn(Optional.of(3), Optional.of(1));
+        when(capacityRepository.decrementRemain(STUDY_ID)).thenReturn(0, 1);
+
+        assertThatThrownBy(() -> engine.reserve(STUDY_ID)).isInstanceOf(ApiException.class);
+        engine.reserve(STUDY_ID);
+
+        verify(capacityRepository, times(2)).decrementRemain(STUDY_ID);
+    }
+
+    @Test
+    @DisplayName("capacity 행이 없으면 스터디 없음으로 거절한다")
+    void reserve_unknownStudy_throwsStudyNotFound() {
+        when(capacityRepository.findRemainByStudyId(STUDY_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> engine.reserve(STUDY_ID))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.STUDY_NOT_FOUND));
+    }
+
+    private static int decrementIfPositive(AtomicInteger remain) {
+        int current;
+        do {
+            current = remain.get();
+            if (current <= 0) {
+                return 0;
+            }
+        } while (!remain.compareAndSet(current, current - 1));
+        return 1;
+    }
+}
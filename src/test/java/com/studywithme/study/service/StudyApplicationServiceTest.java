@@ -0,0 +1,108 @@
+package com.studywithme.study.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.studywithme.global.exception.ApiException;
+import com.studywithme.global.exception.ErrorCode;
+import com.studywithme.member.domain.Member;
+import com.studywithme.member.domain.MemberRole;
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.study.domain.ApplicationStatus;
+import com.studywithme.study.domain.StudyStatus;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class StudyApplicationServiceTest {
+
+    @Autowired
+    private StudyApplicationService studyApplicationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long leaderId;
+
+    @BeforeEach
+    void setUp() {
+        leaderId = member("leader").getId();
+    }
+
+    @Test
+    @DisplayName("신청하면 좌석을 차감하고 확정되며, 취소하면 좌석을 돌려준다")
+    void apply_reservesSeat_andCancelReleasesIt() {
+        Long studyId = insertStudy(StudyStatus.RECRUITING, 2);
+        Long memberId = member("applicant").getId();
+
+        assertThat(studyApplicationService.apply(studyId, memberId).status()).isEqualTo(ApplicationStatus.CONFIRMED);
+        assertThat(remain(studyId)).isEqualTo(1);
+
+        assertThat(studyApplicationService.cancel(studyId, memberId).status()).isEqualTo(ApplicationStatus.CANCELED);
+        assertThat(remain(studyId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정원이 차면 CAPACITY_INSUFFICIENT 로 거절하고 remain 은 음수가 되지 않는다")
+    void apply_full_throwsCapacityInsufficient() {
+        Long studyId = insertStudy(StudyStatus.RECRUITING, 1);
+        studyApplicationService.apply(studyId, member("first").getId());
+        Long lateId = member("late").getId();
+
+        assertThatThrownBy(() -> studyApplicationService.apply(studyId, lateId))
+                .isInstanceOf(ApiException.class)
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.CAPACITY_INSUFFICIENT));
+        assertThat(remain(studyId)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 스터디에 다시 신청하면 중복으로 거절하고, 모집이 끝난 스터디는 받지 않는다")
+    void apply_duplicateAndClosed_areRejected() {
+        Long studyId = insertStudy(StudyStatus.RECRUITING, 5);
+        Long closedId = insertStudy(StudyStatus.RECRUIT_CLOSED, 5);
+        Long memberId = member("applicant").getId();
+        studyApplicationService.apply(studyId, memberId);
+
+        assertThatThrownBy(() -> studyApplicationService.apply(studyId, memberId))
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.APPLICATION_DUPLICATED));
+        assertThatThrownBy(() -> studyApplicationService.apply(closedId, memberId))
+                .satisfies(ex -> assertThat(((ApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.STUDY_CLOSED));
+        assertThat(remain(studyId)).isEqualTo(4);
+    }
+
+    private Member member(String name) {
+        return memberRepository.save(new Member(
+                name + "@apply.studywithme.com", "hash", name, MemberRole.PARTICIPANT, MemberStatus.ACTIVE));
+    }
+
+    private Long insertStudy(StudyStatus status, int total) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO study (leader_id, title, description, category, level, is_online, region, "
+                        + "recruit_end_at, start_at, end_at, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                leaderId, "study", "description", "backend", "BEGINNER", true, null,
+                now.plusDays(7), now.plusDays(8), now.plusDays(30), status.name()
+        );
+        Long studyId = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        jdbcTemplate.update("INSERT INTO capacity (study_id, total, remain) VALUES (?, ?, ?)", studyId, total, total);
+        return studyId;
+    }
+
+    private int remain(Long studyId) {
+        return jdbcTemplate.queryForObject("SELECT remain FROM capacity WHERE study_id = ?", Integer.class, studyId);
+    }
+}
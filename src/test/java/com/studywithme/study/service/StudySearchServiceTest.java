@@ -0,0 +1,78 @@
+package com.studywithme.study.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.studywithme.global.response.CursorPageResponse;
+import com.studywithme.member.domain.Member;
+import com.studywithme.member.domain.MemberRole;
+import com.studywithme.member.domain.MemberStatus;
+import com.studywithme.member.repository.MemberRepository;
+import com.studywithme.study.domain.StudyStatus;
+import com.studywithme.study.dto.StudySearchRequest;
+import com.studywithme.study.dto.StudySummaryResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class StudySearchServiceTest {
+
+    @Autowired
+    private StudySearchService studySearchService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 조건에 맞는 스터디를 중복 없이 id 역순으로 모두 읽는다")
+    void search_keysetPagesCoverAllMatchesWithoutOverlap() {
+        Member leader = memberRepository.save(new Member(
+                "leader@studywithme.com", "hash", "leader", MemberRole.LEADER, MemberStatus.ACTIVE));
+        for (int i = 0; i < 7; i++) {
+            insertStudy(leader.getId(), "backend", StudyStatus.RECRUITING);
+        }
+        insertStudy(leader.getId(), "frontend", StudyStatus.RECRUITING);
+        insertStudy(leader.getId(), "backend", StudyStatus.COMPLETED);
+
+        StudySearchRequest request = new StudySearchRequest();
+        request.setCategory("backend");
+        request.setSize(3);
+        request.setIncludeTotal(true);
+
+        List<Long> ids = new ArrayList<>();
+        CursorPageResponse<StudySummaryResponse> page = studySearchService.search(request);
+        assertThat(page.total()).isEqualTo(7);
+        while (true) {
+            page.items().forEach(item -> ids.add(item.id()));
+            if (!page.hasNext()) {
+                break;
+            }
+            request.setCursor(page.nextCursor());
+            page = studySearchService.search(request);
+            assertThat(page.total()).isNull();
+        }
+
+        assertThat(ids).hasSize(7).doesNotHaveDuplicates();
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    private void insertStudy(Long leaderId, String category, StudyStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO study (leader_id, title, description, category, level, is_online, region, "
+                        + "recruit_end_at, start_at, end_at, status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                leaderId, "study", "description", category, "BEGINNER", true, null,
+                now.plusDays(7), now.plusDays(8), now.plusDays(30), status.name()
+        );
+    }
+}